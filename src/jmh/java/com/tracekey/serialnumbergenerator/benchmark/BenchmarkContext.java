@@ -0,0 +1,60 @@
+package com.tracekey.serialnumbergenerator.benchmark;
+
+import com.tracekey.serialnumbergenerator.SerialNumberGeneratorApplication;
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Locale;
+
+/**
+ * Starts the application against the embedded H2 database of the tests, for benchmarks of the persistence paths.
+ * Schedulers stay enabled but idle, since benchmarks generate serial sets synchronously.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Starts the application without its web server.
+     *
+     * @param properties Additional properties, as {@code key=value}
+     * @return The started context, to be closed by the caller
+     */
+    static ConfigurableApplicationContext start(final String... properties) {
+        return new SpringApplicationBuilder(SerialNumberGeneratorApplication.class, TestDatabaseConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN", "logging.level.org.springframework=WARN",
+                        "logging.level.com.tracekey.serialnumbergenerator=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Creates an unsaved serial set of a fixed configuration.
+     *
+     * @param name         The name of the serial set
+     * @param quantity     The number of serial numbers
+     * @param serialLength The length of the serial numbers
+     * @param alphabet     NUMERIC, ALPHANUMERIC (digits and uppercase) or MIXED (digits, lowercase and uppercase)
+     * @param exclusions   The characters to exclude
+     * @return The serial set
+     */
+    static SerialSet serialSet(final String name, final int quantity, final int serialLength, final String alphabet,
+                               final String exclusions) {
+        final String characters = alphabet.toUpperCase(Locale.ROOT);
+        return new SerialSet()
+                .setName(name)
+                .setQuantity(quantity)
+                .setConfiguration(true)
+                .setSerialLength(serialLength)
+                .setNumber(true)
+                .setUpperCase(!"NUMERIC".equals(characters))
+                .setLowerCase("MIXED".equals(characters))
+                .setExclusions(exclusions);
+    }
+}
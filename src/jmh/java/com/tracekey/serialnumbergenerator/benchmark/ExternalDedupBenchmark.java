@@ -0,0 +1,79 @@
+package com.tracekey.serialnumbergenerator.benchmark;
+
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.generator.ExternalSerialDeduplicator;
+import com.tracekey.serialnumbergenerator.generator.SerialBatchGenerator;
+import com.tracekey.serialnumbergenerator.generator.SerialCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the on-disk dedup of very large serial sets: spilling the candidates of a whole set and draining them.
+ * Serial lengths are limited to those packing into one word, the only ones deduplicated on disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ExternalDedupBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int setSize;
+
+    @Param({"10"})
+    private int serialLength;
+
+    @Param({"NUMERIC", "ALPHANUMERIC", "MIXED"})
+    private String alphabet;
+
+    @Param({"4194304"})
+    private int runLength;
+
+    private long[] codes;
+
+    private final Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "serial-set-dedup-benchmark");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Alphabet compiledAlphabet = Alphabet.of(true, "MIXED".equals(alphabet), !"NUMERIC".equals(alphabet), "");
+        final SerialCodec codec = new SerialCodec(compiledAlphabet, serialLength);
+        codes = new long[setSize];
+        for (int from = 0; from < setSize; from += 4096) {
+            final int count = Math.min(4096, setSize - from);
+            final char[] chars = SerialBatchGenerator.current().fill(compiledAlphabet, serialLength, count);
+            for (int i = 0; i < count; i++) {
+                codes[from + i] = codec.encode(chars, i * serialLength);
+            }
+        }
+    }
+
+    @Benchmark
+    public long spillAndDrain(final Blackhole blackhole) throws IOException {
+        try (ExternalSerialDeduplicator dedup = new ExternalSerialDeduplicator(directory, runLength, 1)) {
+            for (long code : codes) {
+                dedup.addCandidate(code);
+            }
+            return dedup.drain(setSize, (first, second) -> true, (first, second) -> blackhole.consume(first),
+                    new Random(42));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.tracekey.serialnumbergenerator.benchmark;
+
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.generator.BloomFilter;
+import com.tracekey.serialnumbergenerator.generator.SerialBatchGenerator;
+import com.tracekey.serialnumbergenerator.generator.SerialDedupSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the in-memory dedup structures, each filled with a whole serial set per operation.
+ * The set of strings is the baseline the packed dedup set replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SerialDedupBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int setSize;
+
+    @Param({"10", "20"})
+    private int serialLength;
+
+    @Param({"NUMERIC", "ALPHANUMERIC", "MIXED"})
+    private String alphabet;
+
+    private Alphabet compiledAlphabet;
+
+    private List<String> serials;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        compiledAlphabet = Alphabet.of(true, "MIXED".equals(alphabet), !"NUMERIC".equals(alphabet), "");
+        serials = SerialBatchGenerator.current().generate(compiledAlphabet, serialLength, setSize);
+    }
+
+    @Benchmark
+    public int serialDedupSet() {
+        final SerialDedupSet dedupSet = SerialDedupSet.create(compiledAlphabet, serialLength, setSize);
+        for (String serial : serials) {
+            dedupSet.add(serial);
+        }
+        return dedupSet.size();
+    }
+
+    @Benchmark
+    public int stringHashSet() {
+        final Set<String> dedupSet = new HashSet<>(setSize * 2);
+        for (String serial : serials) {
+            dedupSet.add(serial);
+        }
+        return dedupSet.size();
+    }
+
+    @Benchmark
+    public int bloomFilter() {
+        final BloomFilter filter = BloomFilter.create(setSize, 0.001);
+        int added = 0;
+        for (String serial : serials) {
+            if (filter.put(serial)) {
+                added++;
+            }
+        }
+        return added;
+    }
+}
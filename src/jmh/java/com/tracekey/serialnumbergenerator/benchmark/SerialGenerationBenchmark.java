@@ -0,0 +1,89 @@
+package com.tracekey.serialnumbergenerator.benchmark;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of generating serial numbers in memory: single serials, batches, and the character pool they draw from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerialGenerationBenchmark {
+
+    @Param({"10", "20"})
+    private int serialLength;
+
+    @Param({"NUMERIC", "ALPHANUMERIC", "MIXED"})
+    private String alphabet;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ISerialSetService serialSetService;
+
+    private SerialSet serialSet;
+
+    private String characters;
+
+    private Alphabet compiledAlphabet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        serialSetService = context.getBean(ISerialSetService.class);
+        serialSet = BenchmarkContext.serialSet("benchmark", batchSize, serialLength, alphabet, "0OIl1");
+        characters = serialSetService.getCharacterPool(serialSet);
+        compiledAlphabet = serialSetService.getAlphabet(serialSet);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateSingleSerial() {
+        return serialSetService.generateSingleSerial(serialSet, characters);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> generateSerialBatch() {
+        return serialSetService.generateSerialBatch(serialSet, compiledAlphabet, batchSize);
+    }
+
+    @Benchmark
+    public String getCharacterPool() {
+        return serialSetService.getCharacterPool(serialSet);
+    }
+
+    @Benchmark
+    public String removeExclusions() {
+        return serialSetService.removeExclusions(Alphabet.NUMERIC_CHARACTERS + Alphabet.UPPERCASE_CHARACTERS
+                + Alphabet.LOWERCASE_CHARACTERS, serialSet.getExclusions());
+    }
+}
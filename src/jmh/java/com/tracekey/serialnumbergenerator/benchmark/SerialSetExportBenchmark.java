@@ -0,0 +1,81 @@
+package com.tracekey.serialnumbergenerator.benchmark;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.export.CountingOutputStream;
+import com.tracekey.serialnumbergenerator.export.ExportFormat;
+import com.tracekey.serialnumbergenerator.export.ISerialNumberExporter;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of exporting a generated serial set from the embedded H2 database.
+ * The exporters are called directly, since the export service would serve every call after the first from its cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class SerialSetExportBenchmark {
+
+    @Param({"10000", "100000"})
+    private int setSize;
+
+    @Param({"12"})
+    private int serialLength;
+
+    @Param({"ALPHANUMERIC"})
+    private String alphabet;
+
+    @Param({"CSV", "CSV_GZIP", "BINARY"})
+    private ExportFormat format;
+
+    private ConfigurableApplicationContext context;
+
+    private ISerialNumberExporter exporter;
+
+    private SerialSet serialSet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        exporter = context.getBeansOfType(ISerialNumberExporter.class).values().stream()
+                .filter(candidate -> candidate.getFormat() == format)
+                .findFirst()
+                .orElseThrow();
+        final ISerialSetService serialSetService = context.getBean(ISerialSetService.class);
+        serialSet = BenchmarkContext.serialSet("benchmark-export", setSize, serialLength, alphabet, "");
+        serialSetService.saveSerialSet(serialSet);
+        serialSetService.generateSerialNumbers(serialSet);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        final CountingOutputStream outputStream = new CountingOutputStream(OutputStream.nullOutputStream());
+        exporter.export(serialSet, outputStream);
+        return outputStream.getCount();
+    }
+}
@@ -0,0 +1,85 @@
+package com.tracekey.serialnumbergenerator.benchmark;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.scheduling.SerialSetPurger;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of generating and persisting a whole serial set against the embedded H2 database.
+ * Every iteration generates a fresh serial set and purges it afterwards, so the table does not grow between iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class SerialSetPersistenceBenchmark {
+
+    @Param({"10000", "100000"})
+    private int setSize;
+
+    @Param({"10", "20"})
+    private int serialLength;
+
+    @Param({"ALPHANUMERIC"})
+    private String alphabet;
+
+    @Param({"500", "5000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ISerialSetService serialSetService;
+
+    private SerialSetPurger serialSetPurger;
+
+    private SerialSet serialSet;
+
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start("serialSet.batchSize=" + batchSize);
+        serialSetService = context.getBean(ISerialSetService.class);
+        serialSetPurger = context.getBean(SerialSetPurger.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void createSerialSet() {
+        serialSet = BenchmarkContext.serialSet("benchmark-" + iteration++, setSize, serialLength, alphabet, "");
+        serialSetService.saveSerialSet(serialSet);
+    }
+
+    @TearDown(Level.Iteration)
+    public void purgeSerialSet() {
+        serialSetPurger.purge(serialSet);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int generateSerialNumbers() {
+        serialSetService.generateSerialNumbers(serialSet);
+        return serialSet.getGeneratedCount();
+    }
+}
@@ -1,15 +1,41 @@
 package com.tracekey.serialnumbergenerator;
 
+import com.tracekey.serialnumbergenerator.scheduling.BoundedPriorityBlockingQueue;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @SpringBootApplication
-@EnableAsync
+@EnableScheduling
 public class SerialNumberGeneratorApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(SerialNumberGeneratorApplication.class, args);
 	}
 
+	/**
+	 * Dedicated executor running serial generation jobs, kept apart from the common ForkJoin pool.
+	 * At most {@code maxConcurrentJobs} jobs run at once; waiting jobs are ordered by priority in a bounded queue,
+	 * and the rejection policy decides what happens when it is full: "abort" refuses the job, "caller-runs" runs it
+	 * on the submitting thread.
+	 */
+	@Bean(name = "generationJobExecutor", destroyMethod = "shutdown")
+	public ThreadPoolExecutor generationJobExecutor(@Value("${serialSet.jobs.maxConcurrent:2}") int maxConcurrentJobs,
+													@Value("${serialSet.jobs.queueCapacity:100}") int queueCapacity,
+													@Value("${serialSet.jobs.rejectionPolicy:abort}") String rejectionPolicy) {
+		RejectedExecutionHandler rejectionHandler = "caller-runs".equalsIgnoreCase(rejectionPolicy)
+				? new ThreadPoolExecutor.CallerRunsPolicy()
+				: new ThreadPoolExecutor.AbortPolicy();
+		return new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+				new BoundedPriorityBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("generation-job-"),
+				rejectionHandler);
+	}
+
 }
@@ -0,0 +1,44 @@
+package com.tracekey.serialnumbergenerator.conf;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Gives streamed exports their own async request timeout. A large export can outlast the default timeout, which
+ * every other async request keeps.
+ */
+@Configuration
+public class ExportAsyncConfig implements WebMvcConfigurer {
+
+    /**
+     * Request attribute marking a request whose response is a streamed export.
+     */
+    public static final String STREAMED_EXPORT_ATTRIBUTE = ExportAsyncConfig.class.getName() + ".STREAMED_EXPORT";
+
+    /**
+     * Async request timeout of streamed exports in milliseconds loaded from properties.
+     */
+    @Value("${serialSet.export.timeout:3600000}")
+    private long exportTimeoutMillis;
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(final NativeWebRequest request, final Callable<T> task) {
+                if (request instanceof AsyncWebRequest
+                        && request.getAttribute(STREAMED_EXPORT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+                    ((AsyncWebRequest) request).setTimeout(exportTimeoutMillis);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.tracekey.serialnumbergenerator.controller;
+
+import com.tracekey.serialnumbergenerator.dto.SerialVerificationResponse;
+import com.tracekey.serialnumbergenerator.service.ISerialVerificationService;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller class for handling operations on individual serial numbers.
+ */
+@RestController
+@RequestMapping("/api/serials")
+@CrossOrigin(origins = "http://localhost:4200")
+public class SerialController {
+
+    private final ISerialVerificationService serialVerificationService;
+
+    public SerialController(ISerialVerificationService serialVerificationService) {
+        this.serialVerificationService = serialVerificationService;
+    }
+
+    /**
+     * Endpoint to verify a serial number.
+     *
+     * @param value The serial number to verify.
+     * @return Whether the serial number is valid, and the SerialSet it belongs to.
+     */
+    @GetMapping("/{value}/verify")
+    public SerialVerificationResponse verify(@PathVariable String value) {
+        return serialVerificationService.verify(value);
+    }
+}
@@ -1,13 +1,28 @@
 package com.tracekey.serialnumbergenerator.controller;
 
+import com.tracekey.serialnumbergenerator.conf.ExportAsyncConfig;
+import com.tracekey.serialnumbergenerator.dto.SerialClaimResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialNumberPageResponse;
 import com.tracekey.serialnumbergenerator.dto.SerialSetRequest;
 import com.tracekey.serialnumbergenerator.dto.SerialSetResponse;
-import com.tracekey.serialnumbergenerator.service.ICsvExportService;
+import com.tracekey.serialnumbergenerator.dto.SerialSetStatusResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialSetSummaryResponse;
+import com.tracekey.serialnumbergenerator.export.ExportFormat;
+import com.tracekey.serialnumbergenerator.service.ISerialClaimService;
+import com.tracekey.serialnumbergenerator.service.ISerialSetExportService;
 import com.tracekey.serialnumbergenerator.service.ISerialSetService;
 
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controller class for handling SerialSet-related operations.
@@ -18,11 +33,14 @@ import java.util.List;
 public class SerialSetController {
 
     private final ISerialSetService serialSetService;
-    private final ICsvExportService csvExportService;
+    private final ISerialSetExportService serialSetExportService;
+    private final ISerialClaimService serialClaimService;
 
-    public SerialSetController(ISerialSetService serialSetService, ICsvExportService csvExportService) {
+    public SerialSetController(ISerialSetService serialSetService, ISerialSetExportService serialSetExportService,
+                               ISerialClaimService serialClaimService) {
         this.serialSetService = serialSetService;
-        this.csvExportService = csvExportService;
+        this.serialSetExportService = serialSetExportService;
+        this.serialClaimService = serialClaimService;
     }
 
     /**
@@ -37,24 +55,82 @@ public class SerialSetController {
     }
 
     /**
-     * Endpoint to retrieve all SerialSets.
+     * Endpoint to create a SerialSet at once from pre-generated serial numbers.
      *
-     * @return List of all SerialSets.
+     * @param serialSetRequest The SerialSetRequest containing the information for the new SerialSet.
+     * @return The completed SerialSet with its serial numbers.
+     */
+    @PostMapping("/allocate")
+    public SerialSetResponse allocateSerialSet(@RequestBody SerialSetRequest serialSetRequest) {
+        return serialSetService.allocateSerialSet(serialSetRequest);
+    }
+
+    /**
+     * Endpoint to retrieve summaries of all SerialSets, without their serial numbers.
+     *
+     * @param page      The zero-based page to return; every SerialSet when absent.
+     * @param size      The page size.
+     * @param sort      The property to sort by: name, quantity, createdDate, generationStatus or generatedCount.
+     * @param direction The sort direction, ASC or DESC.
+     * @return List of SerialSet summaries.
      */
     @GetMapping("/all")
-    public List<SerialSetResponse> getAllSerialSets() {
-        return serialSetService.getAllSerialSets();
+    public List<SerialSetSummaryResponse> getAllSerialSets(@RequestParam(required = false) Integer page,
+                                                           @RequestParam(defaultValue = "100") int size,
+                                                           @RequestParam(defaultValue = "createdDate") String sort,
+                                                           @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        return serialSetService.getAllSerialSets(page, size, sort, direction);
     }
 
     /**
      * Endpoint to retrieve a SerialSet by its name.
      *
-     * @param name The name of the SerialSet to retrieve.
+     * @param name         The name of the SerialSet to retrieve.
+     * @param metadataOnly Whether to leave out the serial numbers, to be fetched page by page from /{name}/serials.
      * @return The retrieved SerialSet.
      */
     @GetMapping("/{name}")
-    public SerialSetResponse getSerialSetByName(@PathVariable String name) {
-        return serialSetService.getSerialSetByName(name);
+    public SerialSetResponse getSerialSetByName(@PathVariable String name,
+                                                @RequestParam(defaultValue = "false") boolean metadataOnly) {
+        return serialSetService.getSerialSetByName(name, metadataOnly);
+    }
+
+    /**
+     * Endpoint to retrieve the serial numbers of a SerialSet page by page, ordered by ID.
+     *
+     * @param name  The name of the SerialSet.
+     * @param after The nextAfter value of the previous page, 0 for the first page.
+     * @param limit The maximum number of serial numbers of the page.
+     * @return The page of serial numbers.
+     */
+    @GetMapping("/{name}/serials")
+    public SerialNumberPageResponse getSerialNumbers(@PathVariable String name,
+                                                     @RequestParam(defaultValue = "0") long after,
+                                                     @RequestParam(defaultValue = "100") int limit) {
+        return serialSetService.getSerialNumbers(name, after, limit);
+    }
+
+    /**
+     * Endpoint to retrieve the generation progress of a SerialSet without its serial numbers.
+     *
+     * @param name The name of the SerialSet.
+     * @return The generation status and generated count of the SerialSet.
+     */
+    @GetMapping("/{name}/status")
+    public SerialSetStatusResponse getSerialSetStatus(@PathVariable String name) {
+        return serialSetService.getSerialSetStatus(name);
+    }
+
+    /**
+     * Endpoint to claim the next unissued serial numbers of a SerialSet; no serial number is ever claimed twice.
+     *
+     * @param name  The name of the SerialSet.
+     * @param count The number of serial numbers to claim.
+     * @return The claimed serial numbers, fewer than requested when the SerialSet runs out.
+     */
+    @PostMapping("/{name}/claim")
+    public SerialClaimResponse claimSerialNumbers(@PathVariable String name, @RequestParam(defaultValue = "1") int count) {
+        return serialClaimService.claim(name, count);
     }
 
     /**
@@ -69,13 +145,28 @@ public class SerialSetController {
     }
 
     /**
-     * Endpoint to export serial numbers of a specified SerialSet to CSV.
+     * Endpoint to export serial numbers of a specified SerialSet.
+     * The first download is streamed into the response with chunked transfer encoding and copied into a cache file
+     * on the way; later downloads are served from that file as a resource, with its length and range requests.
      *
      * @param serialSetName The name of the SerialSet to export.
-     *
+     * @param format        The export format: CSV (default), CSV_GZIP or BINARY.
+     * @param request       The request, marked for the export timeout when the export is streamed.
+     * @return The export as an attachment.
      */
     @GetMapping("/export/{serialSetName}")
-    public void exportSerialNumbersToCSV(@PathVariable String serialSetName) {
-         csvExportService.exportSerialNumbersToCSV(serialSetName);
+    public ResponseEntity<?> exportSerialNumbers(@PathVariable String serialSetName,
+                                                 @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                 HttpServletRequest request) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("serial_numbers_" + serialSetName + "." + format.getExtension()).build().toString());
+        Optional<Resource> cachedExport = serialSetExportService.findCachedExport(serialSetName, format);
+        if (cachedExport.isPresent()) {
+            return response.body(cachedExport.get());
+        }
+        request.setAttribute(ExportAsyncConfig.STREAMED_EXPORT_ATTRIBUTE, Boolean.TRUE);
+        return response.body(serialSetExportService.exportSerialNumbers(serialSetName, format));
     }
 }
@@ -0,0 +1,27 @@
+package com.tracekey.serialnumbergenerator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerialClaimResponse implements Serializable {
+
+    private static final long serialClaimResponseVersionUID = 1L;
+    private String serialSetName;
+
+    /**
+     * The claimed serial numbers, fewer than requested when the serial set has no unissued serial numbers left.
+     */
+    private List<String> serialNumbers;
+
+}
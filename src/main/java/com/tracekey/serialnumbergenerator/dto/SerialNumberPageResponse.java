@@ -0,0 +1,22 @@
+package com.tracekey.serialnumbergenerator.dto;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.List;
+@Data
+@Getter
+@Setter
+public class SerialNumberPageResponse implements Serializable {
+
+    private static final long serialNumberPageResponseVersionUID = 1L;
+    private List<SerialNumberResponse> serialNumbers;
+
+    /**
+     * ID to pass as {@code after} for the next page, null on the last page.
+     */
+    private Long nextAfter;
+
+}
@@ -0,0 +1,23 @@
+package com.tracekey.serialnumbergenerator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerialNumberResponse implements Serializable {
+
+    private static final long serialNumberResponseVersionUID = 1L;
+    private long id;
+    private String value;
+    private LocalDateTime createdDate;
+
+}
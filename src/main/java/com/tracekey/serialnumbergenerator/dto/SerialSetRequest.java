@@ -1,5 +1,6 @@
 package com.tracekey.serialnumbergenerator.dto;
 
+import com.tracekey.serialnumbergenerator.entity.GenerationMode;
 import lombok.*;
 
 import java.io.Serializable;
@@ -28,4 +29,6 @@ public class SerialSetRequest implements Serializable {
     private boolean upperCase;
 
     private String exclusions = "";
+
+    private GenerationMode generationMode = GenerationMode.RANDOM;
 }
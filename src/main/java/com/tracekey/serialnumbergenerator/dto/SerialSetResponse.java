@@ -1,5 +1,6 @@
 package com.tracekey.serialnumbergenerator.dto;
 
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
 import com.tracekey.serialnumbergenerator.entity.SerialNumber;
 import lombok.Data;
 import lombok.Getter;
@@ -17,6 +18,8 @@ public class SerialSetResponse implements Serializable {
     private String name;
     private int quantity;
     private LocalDateTime createdDate;
+    private GenerationStatus generationStatus;
+    private int generatedCount;
 
     private List<SerialNumber> serialNumberResponseList;
 
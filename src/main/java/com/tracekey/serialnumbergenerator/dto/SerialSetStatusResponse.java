@@ -0,0 +1,20 @@
+package com.tracekey.serialnumbergenerator.dto;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+@Data
+@Getter
+@Setter
+public class SerialSetStatusResponse implements Serializable {
+
+    private static final long serialSetStatusResponseVersionUID = 1L;
+    private String name;
+    private GenerationStatus generationStatus;
+    private int quantity;
+    private int generatedCount;
+
+}
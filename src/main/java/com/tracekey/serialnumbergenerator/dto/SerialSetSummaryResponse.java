@@ -0,0 +1,26 @@
+package com.tracekey.serialnumbergenerator.dto;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerialSetSummaryResponse implements Serializable {
+
+    private static final long serialSetSummaryResponseVersionUID = 1L;
+    private String name;
+    private int quantity;
+    private LocalDateTime createdDate;
+    private GenerationStatus generationStatus;
+    private int generatedCount;
+
+}
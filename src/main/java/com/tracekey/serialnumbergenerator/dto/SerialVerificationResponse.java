@@ -0,0 +1,26 @@
+package com.tracekey.serialnumbergenerator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerialVerificationResponse implements Serializable {
+
+    private static final long serialVerificationResponseVersionUID = 1L;
+    private String value;
+    private boolean valid;
+
+    /**
+     * Name of the serial set holding the serial number, null when it is not valid.
+     */
+    private String serialSetName;
+
+}
@@ -0,0 +1,18 @@
+package com.tracekey.serialnumbergenerator.entity;
+
+/**
+ * Strategy used to produce the serial numbers of a serial set.
+ */
+public enum GenerationMode {
+
+    /**
+     * Independent random serials, deduplicated while generating.
+     */
+    RANDOM,
+
+    /**
+     * Serials obtained by mapping a counter through a keyed permutation of the keyspace;
+     * unique by construction, no dedup set and no retries.
+     */
+    PERMUTATION
+}
@@ -0,0 +1,76 @@
+package com.tracekey.serialnumbergenerator.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * A range of permutation counters of a distributed serial set, generated by whichever node holds its lease.
+ * Partitions of one set map disjoint counter ranges through the same permutation, so they never collide.
+ */
+@Entity
+@Table(name = "generation_partition", indexes = {
+        @Index(name = "idx_generation_partition_set", columnList = "serial_set_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class GenerationPartition implements Serializable {
+
+    private static final long generationPartitionVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "serial_set_id")
+    private long serialSetId;
+
+    private int partitionIndex;
+
+    private long firstCounter;
+
+    private int quantity;
+
+    /**
+     * First counter not yet persisted, committed with every batch so a node taking over resumes after it.
+     */
+    private long nextCounter;
+
+    /**
+     * Node holding the lease, null until the partition is first leased.
+     */
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private boolean completed;
+
+    public GenerationPartition setSerialSetId(long serialSetId) {
+        this.serialSetId = serialSetId;
+        return this;
+    }
+
+    public GenerationPartition setPartitionIndex(int partitionIndex) {
+        this.partitionIndex = partitionIndex;
+        return this;
+    }
+
+    public GenerationPartition setFirstCounter(long firstCounter) {
+        this.firstCounter = firstCounter;
+        return this;
+    }
+
+    public GenerationPartition setQuantity(int quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    public GenerationPartition setNextCounter(long nextCounter) {
+        this.nextCounter = nextCounter;
+        return this;
+    }
+}
@@ -0,0 +1,32 @@
+package com.tracekey.serialnumbergenerator.entity;
+
+/**
+ * Lifecycle of the generation job of a serial set.
+ */
+public enum GenerationStatus {
+
+    /**
+     * Saved and waiting for a generation job slot.
+     */
+    PENDING,
+
+    /**
+     * Serial numbers are being generated and persisted.
+     */
+    RUNNING,
+
+    /**
+     * Every requested serial number has been persisted.
+     */
+    COMPLETED,
+
+    /**
+     * Generation stopped on an error before reaching the requested quantity.
+     */
+    FAILED,
+
+    /**
+     * Being purged in the background; the serial set disappears once its serial numbers are deleted.
+     */
+    DELETING
+}
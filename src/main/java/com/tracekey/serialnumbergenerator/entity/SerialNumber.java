@@ -8,7 +8,10 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "serial_number")
+@Table(name = "serial_number", indexes = {
+        @Index(name = "idx_serialnumber_set_id", columnList = "serial_set_id, id"),
+        @Index(name = "idx_serialnumber_value", columnList = "value")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,6 +26,11 @@ public class SerialNumber implements Serializable {
 
     private LocalDateTime createdDate;
 
+    /**
+     * When the serial number was claimed through the claim endpoint, null while it is unissued.
+     */
+    private LocalDateTime issuedDate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonBackReference
     @JoinColumn(name = "serial_set_id")
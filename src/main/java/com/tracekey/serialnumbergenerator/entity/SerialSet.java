@@ -42,6 +42,28 @@ public class SerialSet implements Serializable {
 
     private String exclusions = "";
 
+    @Enumerated(EnumType.STRING)
+    private GenerationMode generationMode = GenerationMode.RANDOM;
+
+    private Long permutationKey;
+
+    @Enumerated(EnumType.STRING)
+    private GenerationStatus generationStatus = GenerationStatus.PENDING;
+
+    private int generatedCount;
+
+    private long permutationOffset;
+
+    /**
+     * Node generating the serial set, when it is not partitioned.
+     */
+    private String ownerNode;
+
+    /**
+     * Last time the owner node proved it was still alive.
+     */
+    private LocalDateTime heartbeatAt;
+
     public SerialSet setName(String name) {
         this.name = name;
         return this;
@@ -87,6 +109,41 @@ public class SerialSet implements Serializable {
         return this;
     }
 
+    public SerialSet setGenerationMode(GenerationMode generationMode) {
+        this.generationMode = generationMode;
+        return this;
+    }
+
+    public SerialSet setPermutationKey(Long permutationKey) {
+        this.permutationKey = permutationKey;
+        return this;
+    }
+
+    public SerialSet setGenerationStatus(GenerationStatus generationStatus) {
+        this.generationStatus = generationStatus;
+        return this;
+    }
+
+    public SerialSet setGeneratedCount(int generatedCount) {
+        this.generatedCount = generatedCount;
+        return this;
+    }
+
+    public SerialSet setPermutationOffset(long permutationOffset) {
+        this.permutationOffset = permutationOffset;
+        return this;
+    }
+
+    public SerialSet setOwnerNode(String ownerNode) {
+        this.ownerNode = ownerNode;
+        return this;
+    }
+
+    public SerialSet setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+        return this;
+    }
+
     public SerialSet setSerialNumbers(List<SerialNumber> serialNumbers) {
         this.serialNumbers = serialNumbers;
         return this;
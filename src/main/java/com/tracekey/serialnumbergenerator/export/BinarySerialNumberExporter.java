@@ -0,0 +1,120 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.generator.SerialCodec;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exports serial numbers as fixed-width binary records.
+ * <p>
+ * Layout, big-endian: the magic {@code SKGB}, a version byte, an encoding byte, the serial length (short),
+ * the alphabet length (short) followed by the alphabet in ASCII, the record count (int) and the record width in
+ * bytes (short), then one record per serial.
+ * With the packed encoding (1) a record holds the serial as a base-N number over the alphabet, written in the
+ * fewest bytes the largest serial needs; serials longer than one {@code long} are split into a leading and a
+ * trailing part as by {@link SerialCodec}, each written in its own fixed width. Serials too long to pack use the raw
+ * encoding (0), one ASCII byte per character.
+ */
+@Component
+public class BinarySerialNumberExporter implements ISerialNumberExporter {
+
+    static final byte[] MAGIC = {'S', 'K', 'G', 'B'};
+
+    static final byte VERSION = 1;
+
+    static final byte RAW_ENCODING = 0;
+
+    static final byte PACKED_ENCODING = 1;
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    public BinarySerialNumberExporter(final SerialNumberJdbcRepository serialNumberJdbcRepository) {
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+    }
+
+    @Override
+    public ExportFormat getFormat() {
+        return ExportFormat.BINARY;
+    }
+
+    @Override
+    public void export(final SerialSet serialSet, final OutputStream outputStream) throws IOException {
+        final Alphabet alphabet = Alphabet.of(serialSet.isNumber(), serialSet.isLowerCase(), serialSet.isUpperCase(),
+                serialSet.getExclusions());
+        final int serialLength = serialSet.getSerialLength();
+        final SerialCodec codec = new SerialCodec(alphabet, serialLength);
+        final int firstBytes;
+        final int secondBytes;
+        if (codec.getWidth() == 1) {
+            firstBytes = bytesFor(alphabet.size(), serialLength);
+            secondBytes = 0;
+        } else if (codec.getWidth() == 2) {
+            firstBytes = bytesFor(alphabet.size(), serialLength - codec.getCharsPerWord());
+            secondBytes = bytesFor(alphabet.size(), codec.getCharsPerWord());
+        } else {
+            firstBytes = serialLength;
+            secondBytes = 0;
+        }
+
+        final DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(outputStream, CsvSerialNumberExporter.WRITE_BUFFER_SIZE));
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(codec.isPackable() ? PACKED_ENCODING : RAW_ENCODING);
+        out.writeShort(serialLength);
+        final byte[] alphabetBytes = alphabet.toString().getBytes(StandardCharsets.US_ASCII);
+        out.writeShort(alphabetBytes.length);
+        out.write(alphabetBytes);
+        out.writeInt(serialSet.getQuantity());
+        out.writeShort(firstBytes + secondBytes);
+
+        try {
+            serialNumberJdbcRepository.forEachValue(serialSet.getId(), value -> {
+                try {
+                    if (codec.isPackable()) {
+                        writeFixed(out, codec.encodeFirst(value), firstBytes);
+                        writeFixed(out, codec.encodeSecond(value), secondBytes);
+                    } else {
+                        out.writeBytes(value);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * Computes the number of bytes holding any base-N number of the given number of digits.
+     *
+     * @param radix  The size of the alphabet
+     * @param digits The number of characters, small enough for the largest value to fit in a {@code long}
+     * @return The number of bytes, at least one
+     */
+    static int bytesFor(final int radix, final int digits) {
+        long max = 1;
+        for (int i = 0; i < digits; i++) {
+            max *= radix;
+        }
+        final int bits = 64 - Long.numberOfLeadingZeros(max - 1);
+        return Math.max(1, (bits + 7) / 8);
+    }
+
+    private static void writeFixed(final DataOutputStream out, final long value, final int bytes) throws IOException {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+            out.writeByte((int) (value >>> shift));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exports serial numbers as CSV, streamed from a database cursor through a buffered writer.
+ */
+@Component
+public class CsvSerialNumberExporter implements ISerialNumberExporter {
+
+    /**
+     * Size of the buffer between the cursor and the output stream.
+     */
+    static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "Serial Number\n";
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    public CsvSerialNumberExporter(final SerialNumberJdbcRepository serialNumberJdbcRepository) {
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+    }
+
+    @Override
+    public ExportFormat getFormat() {
+        return ExportFormat.CSV;
+    }
+
+    @Override
+    public void export(final SerialSet serialSet, final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        try {
+            serialNumberJdbcRepository.forEachValue(serialSet.getId(), value -> {
+                try {
+                    writer.write(value);
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+}
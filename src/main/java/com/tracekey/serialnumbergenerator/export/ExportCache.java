@@ -0,0 +1,400 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Disk cache of export files, bounded in bytes with least-recently-used eviction.
+ * <p>
+ * A completed serial set never changes, so an export is addressed by a digest of everything that determines its
+ * content: the identity and configuration of the serial set and the export format. The first request streams the
+ * export to its client while copying it into the cache, later requests are served from the file as a resource, and
+ * deleting a serial set invalidates its files. Files evicted or invalidated are deleted only after a delay, so a
+ * resource handed out just before can still be opened; once open, a download completes even if its file is deleted.
+ * File names start with the serial set ID so the index can be rebuilt from the directory after a restart.
+ */
+@Component
+@Slf4j
+public class ExportCache {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Directory holding cached export files loaded from properties.
+     */
+    @Value("${serialSet.export.directory:${java.io.tmpdir}/serial-set-exports}")
+    private String exportDirectory;
+
+    /**
+     * Maximum total size of cached export files loaded from properties.
+     */
+    @Value("${serialSet.export.cache.maxBytes:1073741824}")
+    private long maxBytes;
+
+    /**
+     * Delay in milliseconds before an evicted or invalidated file is deleted loaded from properties.
+     */
+    @Value("${serialSet.export.cache.deleteDelay:60000}")
+    private long deleteDelayMillis;
+
+    /**
+     * Cached files by file name, least recently used first.
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Exports being copied into the cache, so concurrent requests for the same export cache it once.
+     */
+    private final Set<String> materializing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Files removed from the index, by the time after which they are deleted.
+     */
+    private final Map<String, Long> pendingDeletions = new LinkedHashMap<>();
+
+    private long totalBytes;
+
+    /**
+     * Rebuilds the index from the files left by a previous run, oldest first, and removes partial files.
+     */
+    @PostConstruct
+    public synchronized void loadExistingEntries() {
+        final Path directory = Paths.get(exportDirectory);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<Path> existing = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            final List<Path> cached = new ArrayList<>();
+            for (Path file : existing) {
+                if (file.getFileName().toString().endsWith(TEMPORARY_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else {
+                    cached.add(file);
+                }
+            }
+            cached.sort(Comparator.comparingLong(ExportCache::lastModified));
+            for (Path file : cached) {
+                final long size = Files.size(file);
+                entries.put(file.getFileName().toString(), size);
+                totalBytes += size;
+            }
+            evict(null);
+            log.info("Loaded {} cached exports ({} bytes) from {}", entries.size(), totalBytes, directory);
+        } catch (IOException e) {
+            log.warn("Could not load cached exports from {}", directory, e);
+        }
+    }
+
+    /**
+     * Looks up the cached export of a serial set and marks it recently used.
+     *
+     * @param serialSet The completed serial set
+     * @param format    The export format
+     * @return The cached file, or null when it is not cached
+     */
+    public synchronized Resource find(final SerialSet serialSet, final ExportFormat format) {
+        final String fileName = fileName(serialSet, format);
+        final Long size = entries.get(fileName);
+        if (size == null) {
+            return null;
+        }
+        final Path file = Paths.get(exportDirectory, fileName);
+        if (!Files.isRegularFile(file)) {
+            entries.remove(fileName);
+            totalBytes -= size;
+            return null;
+        }
+        log.debug("Export cache hit: {}", fileName);
+        return new FileSystemResource(file);
+    }
+
+    /**
+     * Streams an export to its client while copying it into the cache, so the first download starts right away
+     * instead of waiting for the whole file. The copy is moved into the cache only once the export is complete.
+     * When another request is already caching the same export, or the copy fails, the export is streamed uncached.
+     *
+     * @param serialSet The completed serial set
+     * @param format    The export format
+     * @param target    The stream of the client, flushed but not closed
+     * @param writer    Writes the export
+     * @throws IOException If the export cannot be written to the client
+     */
+    public void writeThrough(final SerialSet serialSet, final ExportFormat format, final OutputStream target,
+                             final ExportWriter writer) throws IOException {
+        final String fileName = fileName(serialSet, format);
+        if (!materializing.add(fileName)) {
+            log.debug("Export already being cached, streaming it uncached: {}", fileName);
+            writer.write(target);
+            return;
+        }
+        Path temporaryFile = null;
+        try {
+            final Path file = Paths.get(exportDirectory, fileName);
+            try {
+                Files.createDirectories(file.getParent());
+                temporaryFile = Files.createTempFile(file.getParent(), "export_", TEMPORARY_SUFFIX);
+            } catch (IOException e) {
+                log.warn("Could not create cache file, streaming export uncached: {}", fileName, e);
+                writer.write(target);
+                return;
+            }
+            log.debug("Export cache miss, streaming and caching: {}", fileName);
+            final boolean copied;
+            try (CachingOutputStream outputStream = new CachingOutputStream(target, temporaryFile, fileName)) {
+                writer.write(outputStream);
+                outputStream.flush();
+                copied = outputStream.isCopying();
+            }
+            if (copied) {
+                // Under the cache lock, so a pending deletion of an earlier copy cannot remove the new file.
+                synchronized (this) {
+                    Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    add(fileName, Files.size(file));
+                }
+            }
+        } finally {
+            if (temporaryFile != null) {
+                Files.deleteIfExists(temporaryFile);
+            }
+            materializing.remove(fileName);
+        }
+    }
+
+    /**
+     * Removes every cached export of a serial set.
+     *
+     * @param serialSetId The ID of the serial set
+     */
+    public synchronized void invalidate(final long serialSetId) {
+        final String prefix = serialSetId + "_";
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                iterator.remove();
+                totalBytes -= entry.getValue();
+                delete(entry.getKey());
+            }
+        }
+        log.debug("Invalidated cached exports of serial set {}", serialSetId);
+    }
+
+    /**
+     * Deletes the evicted and invalidated files whose delay has passed.
+     */
+    @Scheduled(fixedDelayString = "${serialSet.export.cache.deleteDelay:60000}")
+    public synchronized void deletePendingFiles() {
+        final long now = System.currentTimeMillis();
+        final Iterator<Map.Entry<String, Long>> iterator = pendingDeletions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, Long> pending = iterator.next();
+            if (pending.getValue() <= now) {
+                iterator.remove();
+                deleteFile(pending.getKey());
+            }
+        }
+    }
+
+    /**
+     * Deletes every file still waiting for its delay when the application stops.
+     */
+    @PreDestroy
+    public synchronized void deleteAllPendingFiles() {
+        pendingDeletions.keySet().forEach(this::deleteFile);
+        pendingDeletions.clear();
+    }
+
+    /**
+     * @return The total size of the cached export files
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Builds the content address of an export: the serial set ID followed by a digest of the serial set
+     * configuration and the format.
+     */
+    static String fileName(final SerialSet serialSet, final ExportFormat format) {
+        final String content = String.join("|", String.valueOf(serialSet.getId()), serialSet.getName(),
+                String.valueOf(serialSet.getCreatedDate()), String.valueOf(serialSet.getQuantity()),
+                String.valueOf(serialSet.getSerialLength()), String.valueOf(serialSet.isNumber()),
+                String.valueOf(serialSet.isLowerCase()), String.valueOf(serialSet.isUpperCase()),
+                String.valueOf(serialSet.getExclusions()), String.valueOf(serialSet.getGenerationMode()),
+                String.valueOf(serialSet.getPermutationKey()), format.name());
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(serialSet.getId() + "_");
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.append('.').append(format.getExtension()).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private synchronized void add(final String fileName, final long size) {
+        pendingDeletions.remove(fileName);
+        final Long previous = entries.put(fileName, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        evict(fileName);
+    }
+
+    /**
+     * Evicts least recently used files until the cache fits its bound, never the given file.
+     */
+    private void evict(final String keep) {
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            final Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= entry.getValue();
+            delete(entry.getKey());
+            log.debug("Evicted cached export: {}", entry.getKey());
+        }
+    }
+
+    private void delete(final String fileName) {
+        pendingDeletions.put(fileName, System.currentTimeMillis() + deleteDelayMillis);
+    }
+
+    private void deleteFile(final String fileName) {
+        try {
+            Files.deleteIfExists(Paths.get(exportDirectory, fileName));
+        } catch (IOException e) {
+            log.warn("Could not delete cached export: {}", fileName, e);
+        }
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Passes an export on to the client and copies it into a cache file. A failing copy is dropped with a warning,
+     * while the client keeps receiving the export; closing only closes the copy.
+     */
+    private static final class CachingOutputStream extends FilterOutputStream {
+
+        private final String fileName;
+
+        private OutputStream copy;
+
+        private CachingOutputStream(final OutputStream target, final Path file, final String fileName) throws IOException {
+            super(target);
+            this.fileName = fileName;
+            this.copy = new BufferedOutputStream(Files.newOutputStream(file), COPY_BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            if (copy != null) {
+                try {
+                    copy.write(b);
+                } catch (IOException e) {
+                    dropCopy(e);
+                }
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null) {
+                try {
+                    copy.write(b, off, len);
+                } catch (IOException e) {
+                    dropCopy(e);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            if (copy != null) {
+                try {
+                    copy.flush();
+                } catch (IOException e) {
+                    dropCopy(e);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (copy != null) {
+                try {
+                    copy.close();
+                } catch (IOException e) {
+                    dropCopy(e);
+                }
+            }
+        }
+
+        private boolean isCopying() {
+            return copy != null;
+        }
+
+        private void dropCopy(final IOException e) {
+            log.warn("Could not copy export into the cache, streaming it uncached: {}", fileName, e);
+            try {
+                copy.close();
+            } catch (IOException ignored) {
+                // The copy is discarded anyway.
+            }
+            copy = null;
+        }
+    }
+
+    /**
+     * Writes the content of an export.
+     */
+    @FunctionalInterface
+    public interface ExportWriter {
+
+        void write(OutputStream outputStream) throws IOException;
+    }
+}
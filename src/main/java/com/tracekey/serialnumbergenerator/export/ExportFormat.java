@@ -0,0 +1,39 @@
+package com.tracekey.serialnumbergenerator.export;
+
+/**
+ * File formats a serial set can be exported to.
+ */
+public enum ExportFormat {
+
+    /**
+     * Plain CSV, one serial number per line under a header line.
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * The CSV format compressed with gzip.
+     */
+    CSV_GZIP("application/gzip", "csv.gz"),
+
+    /**
+     * Fixed-width binary records, see {@link BinarySerialNumberExporter}.
+     */
+    BINARY("application/octet-stream", "bin");
+
+    private final String mediaType;
+
+    private final String extension;
+
+    ExportFormat(final String mediaType, final String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
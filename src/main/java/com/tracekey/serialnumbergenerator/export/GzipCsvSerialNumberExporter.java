@@ -0,0 +1,35 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports serial numbers as gzip-compressed CSV.
+ * Serials are short and drawn from small alphabets, so the CSV typically shrinks several-fold.
+ */
+@Component
+public class GzipCsvSerialNumberExporter implements ISerialNumberExporter {
+
+    private final CsvSerialNumberExporter csvSerialNumberExporter;
+
+    public GzipCsvSerialNumberExporter(final CsvSerialNumberExporter csvSerialNumberExporter) {
+        this.csvSerialNumberExporter = csvSerialNumberExporter;
+    }
+
+    @Override
+    public ExportFormat getFormat() {
+        return ExportFormat.CSV_GZIP;
+    }
+
+    @Override
+    public void export(final SerialSet serialSet, final OutputStream outputStream) throws IOException {
+        final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, CsvSerialNumberExporter.WRITE_BUFFER_SIZE);
+        csvSerialNumberExporter.export(serialSet, gzipOutputStream);
+        gzipOutputStream.finish();
+        gzipOutputStream.flush();
+    }
+}
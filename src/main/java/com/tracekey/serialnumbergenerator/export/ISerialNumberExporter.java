@@ -0,0 +1,24 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the serial numbers of a serial set in one export format.
+ * Every Spring bean implementing this interface is picked up by the export service, one per format.
+ */
+public interface ISerialNumberExporter {
+
+    ExportFormat getFormat();
+
+    /**
+     * Writes the serial numbers of a completed serial set. The stream is flushed but not closed.
+     *
+     * @param serialSet    The serial set to export
+     * @param outputStream The stream receiving the export
+     * @throws IOException If an I/O error occurs during the export
+     */
+    void export(SerialSet serialSet, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,213 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled character pool of a serial set configuration.
+ * Holds the allowed characters in generation order, an index lookup table and a bitmask of the allowed characters,
+ * so membership and index lookups are O(1). Instances are immutable and shared through a bounded cache keyed by
+ * the configuration, see {@link #of(boolean, boolean, boolean, String)}.
+ */
+public final class Alphabet {
+
+    /**
+     * Character set containing numeric characters.
+     */
+    public static final String NUMERIC_CHARACTERS = "0123456789";
+
+    /**
+     * Character set containing lowercase alphabetical characters.
+     */
+    public static final String LOWERCASE_CHARACTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * Character set containing uppercase alphabetical characters.
+     */
+    public static final String UPPERCASE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    /**
+     * Maximum number of compiled alphabets kept in the cache.
+     */
+    private static final int MAX_CACHED_ALPHABETS = 64;
+
+    /**
+     * Size of the lookup table; every supported character is plain ASCII.
+     */
+    private static final int LOOKUP_SIZE = 128;
+
+    private static final Map<Key, Alphabet> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<Key, Alphabet>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, Alphabet> eldest) {
+                    return size() > MAX_CACHED_ALPHABETS;
+                }
+            });
+
+    private final char[] characters;
+
+    private final byte[] indexTable = new byte[LOOKUP_SIZE];
+
+    private final long[] mask = new long[LOOKUP_SIZE / Long.SIZE];
+
+    private Alphabet(final String pool, final String exclusions) {
+        final StringBuilder allowed = new StringBuilder(pool.length());
+        for (int i = 0; i < pool.length(); i++) {
+            final char c = pool.charAt(i);
+            if (exclusions.indexOf(c) < 0) {
+                allowed.append(c);
+            }
+        }
+        this.characters = allowed.toString().toCharArray();
+        Arrays.fill(indexTable, (byte) -1);
+        for (int i = 0; i < characters.length; i++) {
+            indexTable[characters[i]] = (byte) i;
+            mask[characters[i] >>> 6] |= 1L << characters[i];
+        }
+    }
+
+    /**
+     * Returns the compiled alphabet of a configuration, compiling and caching it on first use.
+     *
+     * @param number     Whether numeric characters are allowed
+     * @param lowerCase  Whether lowercase characters are allowed
+     * @param upperCase  Whether uppercase characters are allowed
+     * @param exclusions The characters to exclude, may be null
+     * @return The compiled alphabet
+     */
+    public static Alphabet of(final boolean number, final boolean lowerCase, final boolean upperCase,
+                              final String exclusions) {
+        final Key key = new Key(number, lowerCase, upperCase, normalize(exclusions));
+        return CACHE.computeIfAbsent(key, Alphabet::compile);
+    }
+
+    private static Alphabet compile(final Key key) {
+        final StringBuilder pool = new StringBuilder();
+        if (key.number) {
+            pool.append(NUMERIC_CHARACTERS);
+        }
+        if (key.lowerCase) {
+            pool.append(LOWERCASE_CHARACTERS);
+        }
+        if (key.upperCase) {
+            pool.append(UPPERCASE_CHARACTERS);
+        }
+        return new Alphabet(pool.toString(), key.exclusions);
+    }
+
+    private static String normalize(final String exclusions) {
+        if (exclusions == null || exclusions.isEmpty()) {
+            return "";
+        }
+        return exclusions.chars().distinct().sorted()
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+    }
+
+    /**
+     * Returns the allowed characters in generation order.
+     * The array is shared and must not be modified.
+     *
+     * @return The allowed characters
+     */
+    public char[] characters() {
+        return characters;
+    }
+
+    /**
+     * @return The number of allowed characters
+     */
+    public int size() {
+        return characters.length;
+    }
+
+    public boolean isEmpty() {
+        return characters.length == 0;
+    }
+
+    /**
+     * @param index The index of the character
+     * @return The character at the given index
+     */
+    public char charAt(final int index) {
+        return characters[index];
+    }
+
+    /**
+     * @param c The character to look up
+     * @return The index of the character, or -1 when it is not allowed
+     */
+    public int indexOf(final char c) {
+        return c < LOOKUP_SIZE ? indexTable[c] : -1;
+    }
+
+    /**
+     * @param c The character to check
+     * @return Whether the character is allowed
+     */
+    public boolean contains(final char c) {
+        return c < LOOKUP_SIZE && (mask[c >>> 6] & (1L << c)) != 0;
+    }
+
+    /**
+     * Checks whether a serial is made of allowed characters only.
+     *
+     * @param serial The serial to check
+     * @return Whether every character of the serial is allowed
+     */
+    public boolean matches(final CharSequence serial) {
+        for (int i = 0; i < serial.length(); i++) {
+            if (!contains(serial.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(characters);
+    }
+
+    /**
+     * Cache key of a configuration; exclusions are normalized so equivalent configurations share one alphabet.
+     */
+    private static final class Key {
+
+        private final boolean number;
+
+        private final boolean lowerCase;
+
+        private final boolean upperCase;
+
+        private final String exclusions;
+
+        private Key(final boolean number, final boolean lowerCase, final boolean upperCase, final String exclusions) {
+            this.number = number;
+            this.lowerCase = lowerCase;
+            this.upperCase = upperCase;
+            this.exclusions = exclusions;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return number == key.number && lowerCase == key.lowerCase && upperCase == key.upperCase
+                    && exclusions.equals(key.exclusions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(number, lowerCase, upperCase, exclusions);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of serials: {@link #mightContain} never answers false for an added serial,
+ * and answers true for other serials with about the configured false positive probability.
+ * Bits are set with compare-and-set, so concurrent writers need no lock.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private BloomFilter(final long bitCount, final int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates a filter sized for the expected number of serials.
+     *
+     * @param expectedInsertions     The number of serials the filter will hold
+     * @param falsePositiveRate      The accepted probability of a false positive, between 0 and 1
+     * @return The empty filter
+     */
+    public static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+        final long n = Math.max(1, expectedInsertions);
+        final double ln2 = Math.log(2);
+        final long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        final int hashes = Math.max(1, (int) Math.round((double) bits / n * ln2));
+        if (bits > (long) Integer.MAX_VALUE << 6) {
+            throw new IllegalArgumentException("Bloom filter too large for " + expectedInsertions + " serials");
+        }
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * Adds a serial to the filter.
+     *
+     * @param serial The serial
+     * @return False when every bit of the serial was already set, i.e. the serial might have been added before
+     */
+    public boolean put(final CharSequence serial) {
+        return putHash(hash(serial));
+    }
+
+    public boolean mightContain(final CharSequence serial) {
+        return mightContainHash(hash(serial));
+    }
+
+    boolean putHash(final long hash) {
+        final long h2 = LongHashSet.hash(hash, 0x632BE59BD9B4E019L) | 1L;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(hash + i * h2, bitCount);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+            changed |= (word & mask) == 0;
+        }
+        return changed;
+    }
+
+    /**
+     * Probes the filter with a hash computed once by {@link #hash}, so a serial can be checked against many filters.
+     *
+     * @param hash The hash of the serial
+     * @return False when the serial was never added
+     */
+    public boolean mightContainHash(final long hash) {
+        final long h2 = LongHashSet.hash(hash, 0x632BE59BD9B4E019L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(hash + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The memory held by the bits of the filter, in bytes
+     */
+    public long getSizeInBytes() {
+        return bitCount >>> 3;
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters of a serial, finished with the mixer of {@link LongHashSet}.
+     *
+     * @param serial The serial
+     * @return The hash every filter derives its bit positions from
+     */
+    public static long hash(final CharSequence serial) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < serial.length(); i++) {
+            hash ^= serial.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return LongHashSet.hash(hash, serial.length());
+    }
+}
@@ -0,0 +1,487 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Deduplicates packed serials on local disk, for serial sets too large to dedup on the heap.
+ * <p>
+ * A serial packs into a code of one or two words, see {@link SerialCodec}. Candidates are buffered up to the run
+ * length, sorted, deduplicated and spilled into run files. {@link #drain} merges the memory-mapped runs k-way, so
+ * only the buffer of one run lives on the heap however many serials are generated. The merge drops candidates
+ * present in the excluded runs, which hold the serials persisted earlier and everything a previous drain selected.
+ * The merge yields codes in ascending order, so the selected ones are spilled again under random sort keys and
+ * merged once more, which passes them on in random order.
+ * Not thread-safe.
+ */
+public final class ExternalSerialDeduplicator implements Closeable {
+
+    /**
+     * Maximum number of words of a run file, so a run can be mapped with a single buffer.
+     */
+    private static final int MAX_RUN_WORDS = 1 << 27;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Records of at most this many words are sorted by insertion.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final Path directory;
+
+    /**
+     * Number of words of a code, 1 or 2.
+     */
+    private final int width;
+
+    /**
+     * Codes buffered on the heap; during a drain, the selected codes with their sort keys.
+     */
+    private final long[] buffer;
+
+    /**
+     * Number of words in the buffer.
+     */
+    private int buffered;
+
+    /**
+     * Whether the buffer holds excluded codes rather than candidates.
+     */
+    private boolean bufferingExcluded;
+
+    private final List<Path> candidateRuns = new ArrayList<>();
+
+    private final List<Path> excludedRuns = new ArrayList<>();
+
+    private final List<Path> shuffledRuns = new ArrayList<>();
+
+    private int runCount;
+
+    private long spilledBytes;
+
+    /**
+     * @param parent    The directory in which to create the run files
+     * @param runLength The number of codes buffered on the heap before a run is spilled
+     * @param width     The number of words of a code, 1 or 2
+     * @throws IOException if the run directory cannot be created
+     */
+    public ExternalSerialDeduplicator(final Path parent, final int runLength, final int width) throws IOException {
+        if (width < 1 || width > 2) {
+            throw new IllegalArgumentException("Unsupported code width: " + width);
+        }
+        Files.createDirectories(parent);
+        this.directory = Files.createTempDirectory(parent, "dedup-");
+        this.width = width;
+        this.buffer = new long[Math.max(width + 1, Math.min(runLength, MAX_RUN_WORDS / (width + 1)) * width)];
+    }
+
+    /**
+     * Adds a generated one-word candidate.
+     *
+     * @param code The packed serial
+     */
+    public void addCandidate(final long code) {
+        add(code, 0L, false);
+    }
+
+    /**
+     * Adds a generated candidate.
+     *
+     * @param first  The leading word of the packed serial
+     * @param second The trailing word of the packed serial, ignored for one-word codes
+     */
+    public void addCandidate(final long first, final long second) {
+        add(first, second, false);
+    }
+
+    /**
+     * Adds a one-word serial that must never be drained, such as one already persisted.
+     *
+     * @param code The packed serial
+     */
+    public void addExcluded(final long code) {
+        add(code, 0L, true);
+    }
+
+    /**
+     * Adds a serial that must never be drained, such as one already persisted.
+     *
+     * @param first  The leading word of the packed serial
+     * @param second The trailing word of the packed serial, ignored for one-word codes
+     */
+    public void addExcluded(final long first, final long second) {
+        add(first, second, true);
+    }
+
+    private void add(final long first, final long second, final boolean excluded) {
+        if (buffered > 0 && (buffered == buffer.length || bufferingExcluded != excluded)) {
+            flush();
+        }
+        bufferingExcluded = excluded;
+        buffer[buffered++] = first;
+        if (width == 2) {
+            buffer[buffered++] = second;
+        }
+    }
+
+    /**
+     * Merges the candidates added since the last drain and passes on a uniformly chosen subset of the distinct ones
+     * that are not excluded, in random order. Every chosen serial is excluded from later drains, accepted or not.
+     *
+     * @param count  The number of serials wanted
+     * @param accept Last check of a chosen serial; rejected serials are not passed on
+     * @param sink   The consumer of the accepted serials
+     * @param random The source choosing which distinct candidates are kept and the order they are passed on in
+     * @return The number of serials passed on, less than the count when too few candidates were distinct
+     */
+    public long drain(final long count, final CodePredicate accept, final CodeConsumer sink, final Random random) {
+        flush();
+        final long[] distinct = {0};
+        merge(candidateRuns, excludedRuns, width, code -> distinct[0]++);
+        final long wanted = Math.min(count, distinct[0]);
+
+        final int shuffledWidth = width + 1;
+        final long[] seen = {0};
+        final long[] selected = {0};
+        try (RunWriter chosen = new RunWriter(excludedRuns, width)) {
+            merge(candidateRuns, excludedRuns, width, code -> {
+                // Selection sampling: keeps exactly the wanted number, each distinct candidate with equal probability.
+                if (random.nextDouble() * (distinct[0] - seen[0]++) < wanted - selected[0]) {
+                    selected[0]++;
+                    chosen.write(code, 0);
+                    if (accept.test(code[0], width == 2 ? code[1] : 0L)) {
+                        if (buffered + shuffledWidth > buffer.length) {
+                            spill(shuffledRuns, shuffledWidth);
+                        }
+                        buffer[buffered] = random.nextLong();
+                        System.arraycopy(code, 0, buffer, buffered + 1, width);
+                        buffered += shuffledWidth;
+                    }
+                }
+            });
+        }
+        spill(shuffledRuns, shuffledWidth);
+        deleteAll(candidateRuns);
+
+        final long[] accepted = {0};
+        merge(shuffledRuns, List.of(), shuffledWidth, record -> {
+            accepted[0]++;
+            sink.accept(record[1], width == 2 ? record[2] : 0L);
+        });
+        deleteAll(shuffledRuns);
+        return accepted[0];
+    }
+
+    /**
+     * @return The number of bytes written to run files so far
+     */
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    /**
+     * Deletes every run file.
+     */
+    @Override
+    public void close() {
+        deleteAll(candidateRuns);
+        deleteAll(excludedRuns);
+        deleteAll(shuffledRuns);
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Spills the buffered codes into a candidate or excluded run.
+     */
+    private void flush() {
+        spill(bufferingExcluded ? excludedRuns : candidateRuns, width);
+    }
+
+    /**
+     * Sorts, deduplicates and spills the buffer into a run file.
+     *
+     * @param runs        The runs the new run belongs to
+     * @param recordWidth The number of words of a buffered record
+     */
+    private void spill(final List<Path> runs, final int recordWidth) {
+        if (buffered == 0) {
+            return;
+        }
+        final int records = buffered / recordWidth;
+        if (recordWidth == 1) {
+            Arrays.sort(buffer, 0, records);
+        } else {
+            sort(buffer, recordWidth, 0, records);
+        }
+        try (RunWriter writer = new RunWriter(runs, recordWidth)) {
+            for (int i = 0; i < records; i++) {
+                if (i == 0 || compare(buffer, recordWidth, i, buffer, i - 1) != 0) {
+                    writer.write(buffer, i * recordWidth);
+                }
+            }
+        }
+        buffered = 0;
+    }
+
+    /**
+     * Merges runs, passing on every distinct record no excluded run holds, in ascending order.
+     * The record passed on is reused by the next one.
+     */
+    private static void merge(final List<Path> runs, final List<Path> excluded, final int recordWidth,
+                              final Consumer<long[]> action) {
+        final PriorityQueue<RunCursor> heads = new PriorityQueue<>((a, b) -> compare(a.head, recordWidth, 0, b.head, 0));
+        for (Path run : runs) {
+            addCursor(heads, run, recordWidth, false);
+        }
+        for (Path run : excluded) {
+            addCursor(heads, run, recordWidth, true);
+        }
+        final long[] record = new long[recordWidth];
+        while (!heads.isEmpty()) {
+            System.arraycopy(heads.peek().head, 0, record, 0, recordWidth);
+            boolean isExcluded = false;
+            while (!heads.isEmpty() && compare(heads.peek().head, recordWidth, 0, record, 0) == 0) {
+                final RunCursor cursor = heads.poll();
+                isExcluded |= cursor.excluded;
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+            if (!isExcluded) {
+                action.accept(record);
+            }
+        }
+    }
+
+    private static void addCursor(final PriorityQueue<RunCursor> heads, final Path run, final int recordWidth,
+                                  final boolean excluded) {
+        final RunCursor cursor = new RunCursor(map(run), recordWidth, excluded);
+        if (cursor.advance()) {
+            heads.add(cursor);
+        }
+    }
+
+    private static LongBuffer map(final Path run) {
+        try (FileChannel channel = FileChannel.open(run, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asLongBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteAll(final List<Path> runs) {
+        try {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        runs.clear();
+    }
+
+    /**
+     * Compares two records word by word.
+     */
+    private static int compare(final long[] a, final int recordWidth, final int i, final long[] b, final int j) {
+        for (int w = 0; w < recordWidth; w++) {
+            final int result = Long.compare(a[i * recordWidth + w], b[j * recordWidth + w]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sorts the records of a range in place: quicksort down to small ranges, then insertion sort.
+     *
+     * @param words       The records, laid out one after the other
+     * @param recordWidth The number of words of a record
+     * @param from        The index of the first record, inclusive
+     * @param to          The index of the last record, exclusive
+     */
+    static void sort(final long[] words, final int recordWidth, int from, int to) {
+        final long[] pivot = new long[recordWidth];
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            final int a = from;
+            final int b = (from + to) >>> 1;
+            final int c = to - 1;
+            final int median = compare(words, recordWidth, a, words, b) < 0
+                    ? (compare(words, recordWidth, b, words, c) < 0 ? b : compare(words, recordWidth, a, words, c) < 0 ? c : a)
+                    : (compare(words, recordWidth, a, words, c) < 0 ? a : compare(words, recordWidth, b, words, c) < 0 ? c : b);
+            System.arraycopy(words, median * recordWidth, pivot, 0, recordWidth);
+            int i = from;
+            int j = to - 1;
+            while (i <= j) {
+                while (compare(words, recordWidth, i, pivot, 0) < 0) {
+                    i++;
+                }
+                while (compare(words, recordWidth, j, pivot, 0) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(words, recordWidth, i++, j--);
+                }
+            }
+            // Recursing into the smaller side keeps the stack logarithmic.
+            if (j + 1 - from < to - i) {
+                sort(words, recordWidth, from, j + 1);
+                from = i;
+            } else {
+                sort(words, recordWidth, i, to);
+                to = j + 1;
+            }
+        }
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && compare(words, recordWidth, j, words, j - 1) < 0; j--) {
+                swap(words, recordWidth, j, j - 1);
+            }
+        }
+    }
+
+    private static void swap(final long[] words, final int recordWidth, final int i, final int j) {
+        for (int w = 0; w < recordWidth; w++) {
+            final long word = words[i * recordWidth + w];
+            words[i * recordWidth + w] = words[j * recordWidth + w];
+            words[j * recordWidth + w] = word;
+        }
+    }
+
+    /**
+     * Last check of a drained code.
+     */
+    @FunctionalInterface
+    public interface CodePredicate {
+
+        /**
+         * @param first  The leading word of the code
+         * @param second The trailing word of the code, zero for one-word codes
+         * @return Whether the code is passed on
+         */
+        boolean test(long first, long second);
+    }
+
+    /**
+     * Consumer of drained codes.
+     */
+    @FunctionalInterface
+    public interface CodeConsumer {
+
+        /**
+         * @param first  The leading word of the code
+         * @param second The trailing word of the code, zero for one-word codes
+         */
+        void accept(long first, long second);
+    }
+
+    private static final class RunCursor {
+
+        private final LongBuffer words;
+
+        private final boolean excluded;
+
+        private final long[] head;
+
+        private RunCursor(final LongBuffer words, final int recordWidth, final boolean excluded) {
+            this.words = words;
+            this.excluded = excluded;
+            this.head = new long[recordWidth];
+        }
+
+        private boolean advance() {
+            if (words.remaining() < head.length) {
+                return false;
+            }
+            words.get(head);
+            return true;
+        }
+    }
+
+    /**
+     * Writes ascending records into run files, starting a new file every {@link #MAX_RUN_WORDS} words.
+     */
+    private final class RunWriter implements AutoCloseable {
+
+        private final List<Path> runs;
+
+        private final int recordWidth;
+
+        private final ByteBuffer out = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+
+        private FileChannel channel;
+
+        private int written;
+
+        private RunWriter(final List<Path> runs, final int recordWidth) {
+            this.runs = runs;
+            this.recordWidth = recordWidth;
+        }
+
+        /**
+         * @param words  The words holding the record
+         * @param offset The index of the first word of the record
+         */
+        private void write(final long[] words, final int offset) {
+            try {
+                if (channel == null || written + recordWidth > MAX_RUN_WORDS) {
+                    close();
+                    final Path run = directory.resolve("run-" + runCount++);
+                    channel = FileChannel.open(run, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                    runs.add(run);
+                    written = 0;
+                }
+                for (int w = 0; w < recordWidth; w++) {
+                    if (!out.hasRemaining()) {
+                        drainBuffer();
+                    }
+                    out.putLong(words[offset + w]);
+                }
+                written += recordWidth;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void drainBuffer() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                spilledBytes += channel.write(out);
+            }
+            out.clear();
+        }
+
+        @Override
+        public void close() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                drainBuffer();
+                channel.close();
+                channel = null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of non-negative keys made of one or two {@code long} words.
+ * Keys are stored inline in a single {@code long[]} with linear probing, so an entry costs
+ * {@code 8 * width / loadFactor} bytes instead of the boxed objects and nodes of a {@code HashSet}.
+ * Not thread-safe.
+ */
+public final class LongHashSet {
+
+    /**
+     * Marker of an empty slot; keys are never negative.
+     */
+    private static final long EMPTY = -1L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Load factor above which the table doubles.
+     */
+    private static final double MAX_LOAD = 0.6;
+
+    private final int width;
+
+    private long[] table;
+
+    private int mask;
+
+    private int size;
+
+    private int resizeThreshold;
+
+    /**
+     * @param width            The number of {@code long} words per key, 1 or 2
+     * @param expectedElements The number of keys expected, used to size the table
+     */
+    public LongHashSet(final int width, final int expectedElements) {
+        if (width != 1 && width != 2) {
+            throw new IllegalArgumentException("Key width must be 1 or 2");
+        }
+        this.width = width;
+        allocate(capacityFor(expectedElements));
+    }
+
+    /**
+     * Adds a one-word key.
+     *
+     * @param key The key, must not be negative
+     * @return Whether the key was not already present
+     */
+    public boolean add(final long key) {
+        return add(key, 0L);
+    }
+
+    /**
+     * Adds a key; the second word is ignored for one-word sets.
+     *
+     * @param first  The first word of the key, must not be negative
+     * @param second The second word of the key
+     * @return Whether the key was not already present
+     */
+    public boolean add(final long first, final long second) {
+        final long secondWord = width == 2 ? second : 0L;
+        int slot = (int) hash(first, secondWord) & mask;
+        while (true) {
+            final int index = slot * width;
+            final long current = table[index];
+            if (current == EMPTY) {
+                table[index] = first;
+                if (width == 2) {
+                    table[index + 1] = secondWord;
+                }
+                if (++size > resizeThreshold) {
+                    allocate((mask + 1) * 2);
+                }
+                return true;
+            }
+            if (current == first && (width == 1 || table[index + 1] == secondWord)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * @param first  The first word of the key
+     * @param second The second word of the key, ignored for one-word sets
+     * @return Whether the key is present
+     */
+    public boolean contains(final long first, final long second) {
+        final long secondWord = width == 2 ? second : 0L;
+        int slot = (int) hash(first, secondWord) & mask;
+        while (true) {
+            final int index = slot * width;
+            final long current = table[index];
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == first && (width == 1 || table[index + 1] == secondWord)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Mixes both words of a key into a well-distributed hash (MurmurHash3 finalizer).
+     *
+     * @param first  The first word of the key
+     * @param second The second word of the key
+     * @return The hash
+     */
+    static long hash(final long first, final long second) {
+        long h = first ^ (second * 0x9E3779B97F4A7C15L);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int capacityFor(final int expectedElements) {
+        final long required = (long) Math.ceil(Math.max(expectedElements, 1) / MAX_LOAD);
+        final long capacity = Math.max(MIN_CAPACITY, Long.highestOneBit(required - 1) << 1);
+        if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Too many elements for a single hash set: " + expectedElements);
+        }
+        return (int) capacity;
+    }
+
+    private void allocate(final int capacity) {
+        final long[] oldTable = table;
+        table = new long[capacity * width];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * MAX_LOAD);
+        size = 0;
+        if (oldTable != null) {
+            for (int index = 0; index < oldTable.length; index += width) {
+                if (oldTable[index] != EMPTY) {
+                    add(oldTable[index], width == 2 ? oldTable[index + 1] : 0L);
+                }
+            }
+        }
+    }
+}
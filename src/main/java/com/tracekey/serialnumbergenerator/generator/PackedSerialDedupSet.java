@@ -0,0 +1,43 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+/**
+ * Dedup set storing serials packed into one or two {@code long} words.
+ * The keyspace is spread over lock-striped {@link LongHashSet}s so parallel workers rarely contend.
+ */
+final class PackedSerialDedupSet implements SerialDedupSet {
+
+    private static final int STRIPE_BITS = 6;
+
+    private final SerialCodec codec;
+
+    private final LongHashSet[] stripes = new LongHashSet[1 << STRIPE_BITS];
+
+    PackedSerialDedupSet(final SerialCodec codec, final int expectedElements) {
+        this.codec = codec;
+        final int expectedPerStripe = expectedElements / stripes.length + 1;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new LongHashSet(codec.getWidth(), expectedPerStripe);
+        }
+    }
+
+    @Override
+    public boolean add(final CharSequence serial) {
+        final long first = codec.encodeFirst(serial);
+        final long second = codec.encodeSecond(serial);
+        final LongHashSet stripe = stripes[(int) (LongHashSet.hash(second, first) >>> (Long.SIZE - STRIPE_BITS))];
+        synchronized (stripe) {
+            return stripe.add(first, second);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (LongHashSet stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+}
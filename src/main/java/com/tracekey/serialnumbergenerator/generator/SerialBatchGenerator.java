@@ -0,0 +1,116 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk generator producing whole batches of random serials from a long-lived, per-thread random source.
+ * Random bytes are pulled in bulk and mapped onto the alphabet with unbiased rejection sampling,
+ * and the characters of a batch are written into a reusable buffer.
+ * Instances are not thread-safe; use {@link #current()} to obtain the generator bound to the calling thread.
+ */
+public final class SerialBatchGenerator {
+
+    /**
+     * Number of random bytes pulled from the random source at once.
+     */
+    private static final int RANDOM_BUFFER_SIZE = 4096;
+
+    /**
+     * Largest alphabet supported by byte-wise rejection sampling.
+     */
+    private static final int MAX_ALPHABET_SIZE = 256;
+
+    private static final ThreadLocal<SerialBatchGenerator> THREAD_GENERATOR =
+            ThreadLocal.withInitial(SerialBatchGenerator::new);
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final byte[] randomBytes = new byte[RANDOM_BUFFER_SIZE];
+
+    private int randomPosition = RANDOM_BUFFER_SIZE;
+
+    private char[] buffer = new char[0];
+
+    private SerialBatchGenerator() {
+    }
+
+    /**
+     * Returns the generator bound to the calling thread.
+     *
+     * @return The generator of the current thread
+     */
+    public static SerialBatchGenerator current() {
+        return THREAD_GENERATOR.get();
+    }
+
+    /**
+     * Fills the reusable buffer with {@code count} serials of {@code serialLength} characters each.
+     * Serial {@code i} occupies the characters {@code [i * serialLength, (i + 1) * serialLength)}.
+     * The returned buffer is only valid until the next call on this generator.
+     *
+     * @param alphabet     The alphabet serials are made of
+     * @param serialLength The length of every serial
+     * @param count        The number of serials to generate
+     * @return The buffer holding the generated serials
+     */
+    public char[] fill(final Alphabet alphabet, final int serialLength, final int count) {
+        return fill(alphabet.characters(), serialLength, count);
+    }
+
+    /**
+     * Fills the reusable buffer with {@code count} serials made of the given characters.
+     *
+     * @param characters   The characters serials are made of
+     * @param serialLength The length of every serial
+     * @param count        The number of serials to generate
+     * @return The buffer holding the generated serials
+     * @see #fill(Alphabet, int, int)
+     */
+    public char[] fill(final char[] characters, final int serialLength, final int count) {
+        final int alphabetSize = characters.length;
+        if (alphabetSize == 0 || alphabetSize > MAX_ALPHABET_SIZE) {
+            throw new IllegalArgumentException("Alphabet size must be between 1 and " + MAX_ALPHABET_SIZE);
+        }
+        final int total = serialLength * count;
+        if (buffer.length < total) {
+            buffer = new char[total];
+        }
+        // Bytes at or above the limit would favour the first characters of the alphabet, so they are rejected.
+        final int limit = MAX_ALPHABET_SIZE - (MAX_ALPHABET_SIZE % alphabetSize);
+        for (int i = 0; i < total; i++) {
+            int value;
+            do {
+                value = nextByte();
+            } while (value >= limit);
+            buffer[i] = characters[value % alphabetSize];
+        }
+        return buffer;
+    }
+
+    /**
+     * Generates a batch of serials.
+     *
+     * @param alphabet     The alphabet serials are made of
+     * @param serialLength The length of every serial
+     * @param count        The number of serials to generate
+     * @return The generated serials
+     */
+    public List<String> generate(final Alphabet alphabet, final int serialLength, final int count) {
+        final char[] chars = fill(alphabet, serialLength, count);
+        final List<String> serials = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            serials.add(new String(chars, i * serialLength, serialLength));
+        }
+        return serials;
+    }
+
+    private int nextByte() {
+        if (randomPosition == RANDOM_BUFFER_SIZE) {
+            secureRandom.nextBytes(randomBytes);
+            randomPosition = 0;
+        }
+        return randomBytes[randomPosition++] & 0xFF;
+    }
+}
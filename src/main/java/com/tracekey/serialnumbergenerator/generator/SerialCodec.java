@@ -0,0 +1,164 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+/**
+ * Encodes serials of a fixed length as base-N numbers over their alphabet.
+ * A serial of up to {@link #getCharsPerWord()} characters packs into one {@code long};
+ * up to twice as many characters pack into two, the first word holding the leading characters.
+ */
+public final class SerialCodec {
+
+    private final Alphabet alphabet;
+
+    private final int serialLength;
+
+    private final int charsPerWord;
+
+    /**
+     * @param alphabet     The alphabet of the serials
+     * @param serialLength The length of the serials
+     */
+    public SerialCodec(final Alphabet alphabet, final int serialLength) {
+        this.alphabet = alphabet;
+        this.serialLength = serialLength;
+        this.charsPerWord = charsPerWord(alphabet.size());
+    }
+
+    /**
+     * Computes how many characters of an alphabet fit in a non-negative {@code long}.
+     *
+     * @param radix The size of the alphabet
+     * @return The largest {@code k} such that {@code radix^k <= Long.MAX_VALUE}
+     */
+    static int charsPerWord(final int radix) {
+        if (radix <= 1) {
+            return Integer.MAX_VALUE;
+        }
+        int chars = 0;
+        long limit = Long.MAX_VALUE;
+        while (limit >= radix) {
+            limit /= radix;
+            chars++;
+        }
+        return chars;
+    }
+
+    public int getCharsPerWord() {
+        return charsPerWord;
+    }
+
+    /**
+     * @return The number of {@code long} words a serial packs into, 1 or 2, or 0 when it does not fit
+     */
+    public int getWidth() {
+        if (serialLength <= charsPerWord) {
+            return 1;
+        }
+        return serialLength <= 2L * charsPerWord ? 2 : 0;
+    }
+
+    public boolean isPackable() {
+        return getWidth() > 0;
+    }
+
+    /**
+     * Encodes the leading word of a serial: the whole serial when it fits in one word,
+     * otherwise its first {@code serialLength - charsPerWord} characters.
+     *
+     * @param serial The serial to encode
+     * @return The encoded word
+     */
+    public long encodeFirst(final CharSequence serial) {
+        return getWidth() == 1 ? encode(serial, 0, serialLength) : encode(serial, 0, serialLength - charsPerWord);
+    }
+
+    /**
+     * Encodes the trailing word of a two-word serial, zero for one-word serials.
+     *
+     * @param serial The serial to encode
+     * @return The encoded word
+     */
+    public long encodeSecond(final CharSequence serial) {
+        return getWidth() == 1 ? 0L : encode(serial, serialLength - charsPerWord, serialLength);
+    }
+
+    /**
+     * Encodes a one-word serial held in a character buffer, as filled by {@link SerialBatchGenerator}.
+     *
+     * @param chars  The buffer
+     * @param offset The index of the first character of the serial
+     * @return The encoded word
+     */
+    public long encode(final char[] chars, final int offset) {
+        return encode(chars, offset, offset + serialLength);
+    }
+
+    /**
+     * Encodes the leading word of a serial held in a character buffer, as {@link #encodeFirst(CharSequence)}.
+     *
+     * @param chars  The buffer
+     * @param offset The index of the first character of the serial
+     * @return The encoded word
+     */
+    public long encodeFirst(final char[] chars, final int offset) {
+        return getWidth() == 1 ? encode(chars, offset) : encode(chars, offset, offset + serialLength - charsPerWord);
+    }
+
+    /**
+     * Encodes the trailing word of a serial held in a character buffer, as {@link #encodeSecond(CharSequence)}.
+     *
+     * @param chars  The buffer
+     * @param offset The index of the first character of the serial
+     * @return The encoded word
+     */
+    public long encodeSecond(final char[] chars, final int offset) {
+        return getWidth() == 1 ? 0L : encode(chars, offset + serialLength - charsPerWord, offset + serialLength);
+    }
+
+    private long encode(final char[] chars, final int from, final int to) {
+        final int radix = alphabet.size();
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * radix + alphabet.indexOf(chars[i]);
+        }
+        return value;
+    }
+
+    private long encode(final CharSequence serial, final int from, final int to) {
+        final int radix = alphabet.size();
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            final int index = alphabet.indexOf(serial.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException("Character outside of the alphabet: " + serial.charAt(i));
+            }
+            value = value * radix + index;
+        }
+        return value;
+    }
+
+    /**
+     * Decodes a serial from its encoded words.
+     *
+     * @param first  The leading word
+     * @param second The trailing word, ignored for one-word serials
+     * @return The serial
+     */
+    public String decode(final long first, final long second) {
+        final char[] chars = new char[serialLength];
+        if (getWidth() == 1) {
+            decode(first, chars, 0, serialLength);
+        } else {
+            decode(first, chars, 0, serialLength - charsPerWord);
+            decode(second, chars, serialLength - charsPerWord, serialLength);
+        }
+        return new String(chars);
+    }
+
+    private void decode(long value, final char[] chars, final int from, final int to) {
+        final int radix = alphabet.size();
+        for (int i = to - 1; i >= from; i--) {
+            chars[i] = alphabet.charAt((int) (value % radix));
+            value /= radix;
+        }
+    }
+}
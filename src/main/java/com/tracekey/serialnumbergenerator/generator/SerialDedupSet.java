@@ -0,0 +1,52 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe set of the serials generated for a serial set, used to reject duplicate candidates.
+ */
+public interface SerialDedupSet {
+
+    /**
+     * Adds a serial to the set.
+     *
+     * @param serial The serial to add
+     * @return Whether the serial was not already present
+     */
+    boolean add(CharSequence serial);
+
+    /**
+     * @return The number of serials in the set
+     */
+    int size();
+
+    /**
+     * Creates the most compact dedup set for serials of the given alphabet and length:
+     * serials that pack into one or two {@code long} words are kept in striped primitive hash sets,
+     * longer ones fall back to a concurrent set of strings.
+     *
+     * @param alphabet         The alphabet of the serials
+     * @param serialLength     The length of the serials
+     * @param expectedElements The number of serials expected
+     * @return The dedup set
+     */
+    static SerialDedupSet create(final Alphabet alphabet, final int serialLength, final int expectedElements) {
+        final SerialCodec codec = new SerialCodec(alphabet, serialLength);
+        if (codec.isPackable()) {
+            return new PackedSerialDedupSet(codec, expectedElements);
+        }
+        final Set<String> serials = ConcurrentHashMap.newKeySet(expectedElements);
+        return new SerialDedupSet() {
+            @Override
+            public boolean add(final CharSequence serial) {
+                return serials.add(serial.toString());
+            }
+
+            @Override
+            public int size() {
+                return serials.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+/**
+ * Keyed bijection from counters to serials of a fixed length over an alphabet.
+ * The trailing characters of a serial are the base-N digits of the counter passed through a Feistel network
+ * with cycle-walking over the domain {@code [0, N^k)}; the leading characters, if any, are a keyed hash of those digits.
+ * Distinct counters below {@link #getCapacity()} therefore always give distinct serials that still look random.
+ * Instances are immutable and thread-safe.
+ */
+public final class SerialPermutation {
+
+    /**
+     * Upper bound of the permuted domain, keeping the Feistel halves within 31 bits each.
+     */
+    private static final long MAX_DOMAIN = 1L << 62;
+
+    private static final int ROUNDS = 4;
+
+    private final Alphabet alphabet;
+
+    private final int serialLength;
+
+    private final int permutedDigits;
+
+    private final long capacity;
+
+    private final int halfBits;
+
+    private final long halfMask;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    private final long prefixKey;
+
+    /**
+     * @param alphabet     The alphabet of the serials
+     * @param serialLength The length of the serials
+     * @param key          The permutation key
+     */
+    public SerialPermutation(final Alphabet alphabet, final int serialLength, final long key) {
+        if (alphabet.isEmpty()) {
+            throw new IllegalArgumentException("Alphabet must not be empty");
+        }
+        this.alphabet = alphabet;
+        this.serialLength = serialLength;
+        final int radix = alphabet.size();
+        int digits = 0;
+        long domain = 1;
+        while (digits < serialLength && radix > 1 && domain <= MAX_DOMAIN / radix) {
+            domain *= radix;
+            digits++;
+        }
+        this.permutedDigits = radix > 1 ? digits : serialLength;
+        this.capacity = domain;
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(domain - 1);
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+        this.prefixKey = mix(state + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * @return The number of distinct serials the permutation can produce
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Maps a counter to its position in the permuted domain.
+     *
+     * @param counter The counter, in {@code [0, capacity)}
+     * @return The permuted value, in {@code [0, capacity)}
+     */
+    public long permute(final long counter) {
+        if (counter < 0 || counter >= capacity) {
+            throw new IllegalArgumentException("Counter outside of the permutation domain: " + counter);
+        }
+        long value = counter;
+        do {
+            value = encrypt(value);
+        } while (value >= capacity);
+        return value;
+    }
+
+    /**
+     * Writes the serial of a counter into a buffer.
+     *
+     * @param counter The counter, in {@code [0, capacity)}
+     * @param buffer  The buffer to write to
+     * @param offset  The position of the first character in the buffer
+     */
+    public void write(final long counter, final char[] buffer, final int offset) {
+        final int radix = alphabet.size();
+        final long permuted = permute(counter);
+        long value = permuted;
+        for (int i = offset + serialLength - 1; i >= offset + serialLength - permutedDigits; i--) {
+            buffer[i] = alphabet.charAt((int) (value % radix));
+            value /= radix;
+        }
+        long prefix = 0;
+        for (int i = 0; i < serialLength - permutedDigits; i++) {
+            if (i % 8 == 0) {
+                prefix = mix(permuted ^ prefixKey ^ i) >>> 1;
+            }
+            buffer[offset + i] = alphabet.charAt((int) (prefix % radix));
+            prefix /= radix;
+        }
+    }
+
+    /**
+     * @param counter The counter, in {@code [0, capacity)}
+     * @return The serial of the counter
+     */
+    public String serialAt(final long counter) {
+        final char[] chars = new char[serialLength];
+        write(counter, chars, 0);
+        return new String(chars);
+    }
+
+    private long encrypt(final long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            final long next = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
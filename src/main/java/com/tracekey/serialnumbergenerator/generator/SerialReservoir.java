@@ -0,0 +1,83 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded pool of distinct pre-generated serials of one alphabet and length, handed out oldest first.
+ * Taking a serial costs O(1); refilling is left to the owner, which is told when the pool falls below its low-water mark.
+ */
+public final class SerialReservoir {
+
+    private final LinkedHashSet<String> serials = new LinkedHashSet<>();
+
+    private final int capacity;
+
+    private final int lowWaterMark;
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    public SerialReservoir(final int capacity, final int lowWaterMark) {
+        this.capacity = capacity;
+        this.lowWaterMark = Math.min(lowWaterMark, capacity);
+    }
+
+    /**
+     * Removes serials from the reservoir.
+     *
+     * @param count The number of serials wanted
+     * @return Up to count distinct serials, fewer when the reservoir runs dry
+     */
+    public synchronized List<String> take(final int count) {
+        final List<String> taken = new ArrayList<>(Math.min(count, serials.size()));
+        final Iterator<String> iterator = serials.iterator();
+        while (taken.size() < count && iterator.hasNext()) {
+            taken.add(iterator.next());
+            iterator.remove();
+        }
+        return taken;
+    }
+
+    /**
+     * Adds freshly generated serials, skipping those already held, until the reservoir is full.
+     *
+     * @param candidates The generated serials
+     * @return The number of serials added
+     */
+    public synchronized int offer(final List<String> candidates) {
+        int added = 0;
+        for (String candidate : candidates) {
+            if (serials.size() >= capacity) {
+                break;
+            }
+            if (serials.add(candidate)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    public synchronized int size() {
+        return serials.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Claims the refill of the reservoir when it is below its low-water mark and no refill is running.
+     *
+     * @return Whether the caller must refill the reservoir and then call {@link #refillDone()}
+     */
+    public boolean startRefill() {
+        return size() < lowWaterMark && refilling.compareAndSet(false, true);
+    }
+
+    public void refillDone() {
+        refilling.set(false);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter of serials split into independent shards, so its size is not limited by a single array
+ * and concurrent writers spread over separate cache lines.
+ * The capacity bounds the memory of the filter: adding more serials than it was sized for keeps the memory
+ * constant and only raises the false positive probability.
+ */
+public final class ShardedBloomFilter {
+
+    private final BloomFilter[] shards;
+
+    private final long capacity;
+
+    private final LongAdder insertions = new LongAdder();
+
+    private ShardedBloomFilter(final BloomFilter[] shards, final long capacity) {
+        this.shards = shards;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a filter sized for the expected number of serials.
+     *
+     * @param expectedInsertions The number of serials the filter will hold
+     * @param falsePositiveRate  The accepted probability of a false positive, between 0 and 1
+     * @param shardCount         The number of shards
+     * @return The empty filter
+     */
+    public static ShardedBloomFilter create(final long expectedInsertions, final double falsePositiveRate,
+                                            final int shardCount) {
+        final int count = Math.max(1, shardCount);
+        final long perShard = (Math.max(1, expectedInsertions) + count - 1) / count;
+        final BloomFilter[] shards = new BloomFilter[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = BloomFilter.create(perShard, falsePositiveRate);
+        }
+        return new ShardedBloomFilter(shards, perShard * count);
+    }
+
+    /**
+     * Adds a serial to the filter.
+     *
+     * @param serial The serial
+     * @return False when the serial might have been added before
+     */
+    public boolean put(final CharSequence serial) {
+        final long hash = BloomFilter.hash(serial);
+        final boolean added = shardOf(hash).putHash(hash);
+        if (added) {
+            insertions.increment();
+        }
+        return added;
+    }
+
+    public boolean mightContain(final CharSequence serial) {
+        final long hash = BloomFilter.hash(serial);
+        return shardOf(hash).mightContainHash(hash);
+    }
+
+    /**
+     * @return The number of serials added to the filter, not counting those it already seemed to contain
+     */
+    public long getInsertions() {
+        return insertions.sum();
+    }
+
+    /**
+     * @return The number of serials the filter was sized for
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The memory held by the bits of all shards, in bytes
+     */
+    public long getSizeInBytes() {
+        long bytes = 0;
+        for (BloomFilter shard : shards) {
+            bytes += shard.getSizeInBytes();
+        }
+        return bytes;
+    }
+
+    private BloomFilter shardOf(final long hash) {
+        // Rehashed so the shard does not depend on the bits that pick positions inside the shard.
+        return shards[(int) Math.floorMod(LongHashSet.hash(hash, 0x5851F42D4C957F2DL), (long) shards.length)];
+    }
+}
@@ -2,6 +2,7 @@ package com.tracekey.serialnumbergenerator.mapper;
 
 import com.tracekey.serialnumbergenerator.dto.SerialSetRequest;
 import com.tracekey.serialnumbergenerator.dto.SerialSetResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialSetStatusResponse;
 import com.tracekey.serialnumbergenerator.entity.SerialSet;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -16,7 +17,14 @@ public interface SerialSetMapper {
             @Mapping(source = "serialSetRequest.number", target = "number"),
             @Mapping(source = "serialSetRequest.lowerCase", target = "lowerCase"),
             @Mapping(source = "serialSetRequest.upperCase", target = "upperCase"),
-            @Mapping(source = "serialSetRequest.exclusions", target = "exclusions")
+            @Mapping(source = "serialSetRequest.exclusions", target = "exclusions"),
+            @Mapping(target = "permutationKey", ignore = true),
+            @Mapping(target = "generationStatus", ignore = true),
+            @Mapping(target = "generatedCount", ignore = true),
+            @Mapping(target = "permutationOffset", ignore = true),
+            @Mapping(target = "ownerNode", ignore = true),
+            @Mapping(target = "heartbeatAt", ignore = true),
+            @Mapping(target = "serialNumbers", ignore = true)
     })
     SerialSet mapRequestDtoToEntity(SerialSetRequest serialSetRequest);
 
@@ -28,5 +36,10 @@ public interface SerialSetMapper {
     })
     SerialSetResponse mapEntityToResponseDto(SerialSet serialSet);
 
+    @Mapping(target = "serialNumberResponseList", ignore = true)
+    SerialSetResponse mapEntityToMetadataResponseDto(SerialSet serialSet);
+
+    SerialSetStatusResponse mapEntityToStatusResponseDto(SerialSet serialSet);
+
 
 }
@@ -0,0 +1,140 @@
+package com.tracekey.serialnumbergenerator.metrics;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.export.ExportFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the generation and export hot paths, exposed through Actuator.
+ * Every meter is tagged with the profile of its serial set: alphabet, serial length and generation mode.
+ * Names and exclusions are left out of the tags, so the number of time series stays bounded.
+ */
+@Component
+public class SerialSetMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public SerialSetMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records a batch generated in memory, before it is persisted.
+     *
+     * @param serialSet  The serial set of the batch
+     * @param collisions The number of candidates rejected as duplicates while generating the batch
+     * @param nanos      The time spent generating the batch
+     */
+    public void recordBatchGenerated(final SerialSet serialSet, final int collisions, final long nanos) {
+        final Tags tags = profile(serialSet);
+        Timer.builder("serialset.batch.generation")
+                .description("Time to generate a batch of serial numbers in memory")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (collisions > 0) {
+            Counter.builder("serialset.dedup.collisions")
+                    .description("Generated candidates rejected as duplicates")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment(collisions);
+        }
+    }
+
+    /**
+     * Records a batch persisted together with the generated count of its serial set.
+     *
+     * @param serialSet The serial set of the batch
+     * @param size      The number of serial numbers persisted
+     * @param nanos     The time spent persisting the batch
+     */
+    public void recordBatchWritten(final SerialSet serialSet, final int size, final long nanos) {
+        final Tags tags = profile(serialSet);
+        Timer.builder("serialset.batch.write")
+                .description("Time to persist a batch of serial numbers")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("serialset.serials.generated")
+                .description("Serial numbers generated and persisted")
+                .baseUnit("serials")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment(size);
+    }
+
+    /**
+     * Records a batch retried after a uniqueness conflict with another serial set.
+     *
+     * @param serialSet The serial set of the batch
+     */
+    public void recordBatchRetry(final SerialSet serialSet) {
+        Counter.builder("serialset.batch.retries")
+                .description("Batches retried after a uniqueness conflict")
+                .tags(profile(serialSet))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Records the materialization of an export.
+     *
+     * @param serialSet The exported serial set
+     * @param format    The export format
+     * @param bytes     The size of the export
+     * @param rows      The number of serial numbers exported
+     * @param nanos     The time spent writing the export
+     */
+    public void recordExport(final SerialSet serialSet, final ExportFormat format, final long bytes, final long rows,
+                             final long nanos) {
+        final Tags tags = profile(serialSet).and("format", format.name());
+        Timer.builder("serialset.export.duration")
+                .description("Time to write an export")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("serialset.export.bytes")
+                .description("Bytes written by exports")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment(bytes);
+        Counter.builder("serialset.export.rows")
+                .description("Serial numbers written by exports")
+                .baseUnit("serials")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    /**
+     * Builds the profile tags of a serial set.
+     *
+     * @param serialSet The serial set
+     * @return The alphabet, length and mode tags
+     */
+    static Tags profile(final SerialSet serialSet) {
+        final StringBuilder alphabet = new StringBuilder();
+        if (serialSet.isNumber()) {
+            alphabet.append("numeric");
+        }
+        if (serialSet.isLowerCase()) {
+            alphabet.append(alphabet.length() > 0 ? "+" : "").append("lowercase");
+        }
+        if (serialSet.isUpperCase()) {
+            alphabet.append(alphabet.length() > 0 ? "+" : "").append("uppercase");
+        }
+        return Tags.of("alphabet", alphabet.length() > 0 ? alphabet.toString() : "none",
+                "length", Integer.toString(serialSet.getSerialLength()),
+                "mode", serialSet.getGenerationMode().name());
+    }
+}
@@ -0,0 +1,62 @@
+package com.tracekey.serialnumbergenerator.repository;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationPartition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GenerationPartitionRepository extends JpaRepository<GenerationPartition, Long> {
+
+    /**
+     * Lists unfinished partitions nobody holds a live lease on, oldest serial sets first.
+     */
+    @Query("SELECT p FROM GenerationPartition p WHERE p.completed = false"
+            + " AND (p.leaseOwner IS NULL OR p.leaseExpiresAt < :now) ORDER BY p.serialSetId, p.partitionIndex")
+    List<GenerationPartition> findLeasable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    boolean existsBySerialSetId(long serialSetId);
+
+    long countBySerialSetIdAndCompletedFalse(long serialSetId);
+
+    /**
+     * Takes the lease of a partition unless another node holds a live one; returns 1 when the lease was taken.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenerationPartition p SET p.leaseOwner = :owner, p.leaseExpiresAt = :expiresAt"
+            + " WHERE p.id = :id AND p.completed = false AND (p.leaseOwner IS NULL OR p.leaseExpiresAt < :now)")
+    int acquireLease(@Param("id") long id, @Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Records the progress of a partition and renews its lease, only while the given node still holds a live lease;
+     * returns 0 when the lease was lost or expired, since another node may be taking it over.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenerationPartition p SET p.nextCounter = :nextCounter, p.leaseExpiresAt = :expiresAt"
+            + " WHERE p.id = :id AND p.leaseOwner = :owner AND p.leaseExpiresAt >= :now")
+    int checkpoint(@Param("id") long id, @Param("owner") String owner, @Param("nextCounter") long nextCounter,
+                   @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * Marks a partition completed, only while the given node still holds a live lease; returns 0 when the lease was
+     * lost or expired.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenerationPartition p SET p.completed = true"
+            + " WHERE p.id = :id AND p.leaseOwner = :owner AND p.leaseExpiresAt >= :now")
+    int complete(@Param("id") long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GenerationPartition p WHERE p.serialSetId = :serialSetId")
+    int deleteBySerialSetId(@Param("serialSetId") long serialSetId);
+}
@@ -0,0 +1,104 @@
+package com.tracekey.serialnumbergenerator.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PostgreSQL COPY ingestion into the serial_number table.
+ * Rows are streamed in text form straight into the server's {@code CopyManager}, without entities or INSERT statements.
+ */
+@Repository
+@Slf4j
+public class SerialNumberCopyRepository {
+
+    private static final String COPY_SQL = "COPY serial_number (value, created_date, serial_set_id) FROM STDIN";
+
+    /**
+     * Size of the buffer rows are encoded into before being handed to the COPY stream.
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    private volatile Boolean available;
+
+    public SerialNumberCopyRepository(final DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    /**
+     * Checks once whether the data source is a PostgreSQL database reachable through the PostgreSQL driver.
+     *
+     * @return Whether COPY ingestion can be used
+     */
+    public boolean isAvailable() {
+        if (available == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                available = connection.isWrapperFor(PGConnection.class);
+            } catch (SQLException e) {
+                log.warn("Could not determine whether COPY ingestion is available, falling back to batched inserts", e);
+                available = false;
+            }
+            log.info("PostgreSQL COPY ingestion available: {}", available);
+        }
+        return available;
+    }
+
+    /**
+     * Streams serial numbers of a serial set into the serial_number table with a single COPY.
+     * Serials are made of alphanumeric characters only, so no escaping of the text format is needed.
+     * The connection bound to the current transaction is used when there is one.
+     *
+     * @param serialSetId The ID of the serial set the serial numbers belong to
+     * @param values      The serial numbers to copy
+     */
+    public void copy(final long serialSetId, final List<String> values) {
+        final byte[] rowSuffix = ("\t" + Timestamp.valueOf(LocalDateTime.now()) + "\t" + serialSetId + "\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        final Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                int position = 0;
+                for (String value : values) {
+                    if (position + value.length() + rowSuffix.length > buffer.length) {
+                        copyIn.writeToCopy(buffer, 0, position);
+                        position = 0;
+                    }
+                    for (int i = 0; i < value.length(); i++) {
+                        buffer[position++] = (byte) value.charAt(i);
+                    }
+                    System.arraycopy(rowSuffix, 0, buffer, position, rowSuffix.length);
+                    position += rowSuffix.length;
+                }
+                copyIn.writeToCopy(buffer, 0, position);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("COPY serial_number", COPY_SQL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
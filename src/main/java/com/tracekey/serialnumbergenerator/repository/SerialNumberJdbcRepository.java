@@ -0,0 +1,281 @@
+package com.tracekey.serialnumbergenerator.repository;
+
+import com.tracekey.serialnumbergenerator.dto.SerialNumberResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * JDBC access to the serial_number table for bulk operations that bypass the persistence context.
+ */
+@Repository
+public class SerialNumberJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO serial_number (value, created_date, serial_set_id) VALUES (?, ?, ?)";
+
+    private static final String SELECT_VALUES_SQL =
+            "SELECT value FROM serial_number WHERE serial_set_id = ?";
+
+    private static final String SELECT_ALL_VALUES_SQL =
+            "SELECT value FROM serial_number";
+
+    private static final String SELECT_EXISTING_VALUES_SQL =
+            "SELECT value FROM serial_number WHERE value IN (%s)";
+
+    private static final String CREATE_UNIQUE_VALUE_INDEX_SQL =
+            "CREATE UNIQUE INDEX IF NOT EXISTS uidx_serialnumber_value ON serial_number (value)";
+
+    private static final String CLAIM_SKIP_LOCKED_SQL =
+            "UPDATE serial_number SET issued_date = ? WHERE id IN (SELECT id FROM serial_number"
+                    + " WHERE serial_set_id = ? AND id > ? AND issued_date IS NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)"
+                    + " RETURNING id, value, created_date";
+
+    private static final String SELECT_UNISSUED_SQL =
+            "SELECT id, value, created_date FROM serial_number"
+                    + " WHERE serial_set_id = ? AND id > ? AND issued_date IS NULL ORDER BY id LIMIT ?";
+
+    private static final String ISSUE_SQL =
+            "UPDATE serial_number SET issued_date = ? WHERE id = ? AND issued_date IS NULL";
+
+    /**
+     * Maximum number of values bound to one IN list.
+     */
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
+    private static final String SELECT_PAGE_SQL =
+            "SELECT id, value, created_date FROM serial_number WHERE serial_set_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_ID_RANGE_SQL =
+            "SELECT MIN(id), MAX(id) FROM serial_number WHERE serial_set_id = ?";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM serial_number WHERE serial_set_id = ? AND id >= ? AND id < ?";
+
+    private static final String SELECT_SET_NAME_SQL =
+            "SELECT s.name FROM serial_number n JOIN serial_set s ON s.id = n.serial_set_id"
+                    + " WHERE n.value = ? AND (s.generation_status IS NULL OR s.generation_status <> 'DELETING') LIMIT 1";
+
+    private static final RowMapper<SerialNumberResponse> SERIAL_NUMBER_ROW_MAPPER =
+            (rs, rowNum) -> new SerialNumberResponse(rs.getLong(1), rs.getString(2),
+                    rs.getTimestamp(3) == null ? null : rs.getTimestamp(3).toLocalDateTime());
+
+    /**
+     * Number of rows fetched per round trip while streaming serial numbers.
+     */
+    @Value("${serialNumber.stream.fetchSize:5000}")
+    private int fetchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Whether the database supports FOR UPDATE SKIP LOCKED, resolved on first claim.
+     */
+    private volatile Boolean skipLocked;
+
+    public SerialNumberJdbcRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts serial numbers of a serial set with a single JDBC batch.
+     * No SerialNumber entities are created; every row of the batch gets the same creation date.
+     *
+     * @param serialSetId The ID of the serial set the serial numbers belong to
+     * @param values      The serial numbers to insert
+     */
+    public void insertBatch(final long serialSetId, final List<String> values) {
+        final Timestamp createdDate = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                ps.setString(1, values.get(i));
+                ps.setTimestamp(2, createdDate);
+                ps.setLong(3, serialSetId);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return values.size();
+            }
+        });
+    }
+
+    /**
+     * Streams the serial numbers of a serial set through a forward-only cursor, one row at a time.
+     * The read-only transaction keeps the connection out of auto-commit so PostgreSQL honours the fetch size
+     * instead of materializing the whole result.
+     *
+     * @param serialSetId The ID of the serial set
+     * @param action      The consumer of each serial number
+     */
+    @Transactional(readOnly = true)
+    public void forEachValue(final long serialSetId, final Consumer<String> action) {
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(SELECT_VALUES_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, serialSetId);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(rs.getString(1)));
+    }
+
+    /**
+     * Streams every persisted serial number, of all serial sets, through a forward-only cursor.
+     *
+     * @param action The consumer of each serial number
+     */
+    @Transactional(readOnly = true)
+    public void forEachValue(final Consumer<String> action) {
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(SELECT_ALL_VALUES_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(rs.getString(1)));
+    }
+
+    /**
+     * Finds which of the given serial numbers are already persisted, in any serial set.
+     *
+     * @param values The serial numbers to look up
+     * @return The persisted serial numbers among them
+     */
+    public Set<String> findExistingValues(final List<String> values) {
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += IN_LIST_CHUNK_SIZE) {
+            final List<String> chunk = values.subList(from, Math.min(values.size(), from + IN_LIST_CHUNK_SIZE));
+            final String sql = String.format(SELECT_EXISTING_VALUES_SQL, String.join(",", Collections.nCopies(chunk.size(), "?")));
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> existing.add(rs.getString(1)), chunk.toArray());
+        }
+        return existing;
+    }
+
+    /**
+     * Creates the unique index on serial_number.value enforcing global uniqueness, unless it already exists.
+     * Fails when the table already holds duplicate serial numbers.
+     */
+    public void createUniqueValueIndex() {
+        jdbcTemplate.execute(CREATE_UNIQUE_VALUE_INDEX_SQL);
+    }
+
+    /**
+     * Reads a page of serial numbers of a serial set ordered by ID, starting after the given ID.
+     * Keyset pagination on the (serial_set_id, id) index costs the same for every page, however deep.
+     *
+     * @param serialSetId The ID of the serial set
+     * @param afterId     The last ID of the previous page, zero for the first page
+     * @param limit       The maximum number of serial numbers of the page
+     * @return The serial numbers of the page
+     */
+    public List<SerialNumberResponse> findPage(final long serialSetId, final long afterId, final int limit) {
+        return jdbcTemplate.query(SELECT_PAGE_SQL, SERIAL_NUMBER_ROW_MAPPER, serialSetId, afterId, limit);
+    }
+
+    /**
+     * Finds the smallest and largest serial number IDs of a serial set.
+     *
+     * @param serialSetId The ID of the serial set
+     * @return The smallest and largest IDs, or null when the serial set has no serial numbers
+     */
+    public long[] findIdRange(final long serialSetId) {
+        return jdbcTemplate.queryForObject(SELECT_ID_RANGE_SQL,
+                (rs, rowNum) -> rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)},
+                serialSetId);
+    }
+
+    /**
+     * Deletes the serial numbers of a serial set within an ID range with one statement.
+     *
+     * @param serialSetId The ID of the serial set
+     * @param fromId      The first ID of the range, inclusive
+     * @param toId        The last ID of the range, exclusive
+     * @return The number of deleted serial numbers
+     */
+    public int deleteRange(final long serialSetId, final long fromId, final long toId) {
+        return jdbcTemplate.update(DELETE_RANGE_SQL, serialSetId, fromId, toId);
+    }
+
+    /**
+     * Atomically marks the next unissued serial numbers of a serial set as issued, so no two callers get the same one.
+     * On PostgreSQL one UPDATE with FOR UPDATE SKIP LOCKED claims the rows, and concurrent claims skip each other's
+     * rows instead of waiting for them. Other databases select candidates and issue each with a conditional update,
+     * keeping only the rows this call changed.
+     *
+     * @param serialSetId The ID of the serial set
+     * @param afterId     The ID after which to look for unissued serial numbers
+     * @param limit       The maximum number of serial numbers to claim
+     * @return The claimed serial numbers ordered by ID, fewer than the limit when the serial set runs out
+     */
+    public List<SerialNumberResponse> claimUnissued(final long serialSetId, final long afterId, final int limit) {
+        final Timestamp issuedDate = Timestamp.valueOf(LocalDateTime.now());
+        if (isSkipLockedSupported()) {
+            final List<SerialNumberResponse> claimed = jdbcTemplate.query(CLAIM_SKIP_LOCKED_SQL, SERIAL_NUMBER_ROW_MAPPER,
+                    issuedDate, serialSetId, afterId, limit);
+            claimed.sort(Comparator.comparingLong(SerialNumberResponse::getId));
+            return claimed;
+        }
+
+        final List<SerialNumberResponse> candidates = jdbcTemplate.query(SELECT_UNISSUED_SQL, SERIAL_NUMBER_ROW_MAPPER,
+                serialSetId, afterId, limit);
+        final int[] updated = jdbcTemplate.batchUpdate(ISSUE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                ps.setTimestamp(1, issuedDate);
+                ps.setLong(2, candidates.get(i).getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return candidates.size();
+            }
+        });
+        final List<SerialNumberResponse> claimed = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (updated[i] == 1) {
+                claimed.add(candidates.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    private boolean isSkipLockedSupported() {
+        if (skipLocked == null) {
+            skipLocked = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return skipLocked;
+    }
+
+    /**
+     * Finds the serial set holding a serial number through the index on serial_number.value.
+     *
+     * @param value The serial number
+     * @return The name of the serial set, empty when no serial set that is not being deleted holds it
+     */
+    public Optional<String> findSerialSetName(final String value) {
+        return jdbcTemplate.query(SELECT_SET_NAME_SQL, (rs, rowNum) -> rs.getString(1), value).stream().findFirst();
+    }
+}
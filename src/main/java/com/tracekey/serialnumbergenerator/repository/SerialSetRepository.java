@@ -1,10 +1,90 @@
 package com.tracekey.serialnumbergenerator.repository;
 
+import com.tracekey.serialnumbergenerator.dto.SerialSetSummaryResponse;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
 import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SerialSetRepository extends JpaRepository<SerialSet, Long> {
+
+    String SUMMARY_QUERY = "SELECT new com.tracekey.serialnumbergenerator.dto.SerialSetSummaryResponse("
+            + "s.name, s.quantity, s.createdDate, s.generationStatus, s.generatedCount) FROM SerialSet s";
+
     Optional<SerialSet> findByName(String name);
+
+    List<SerialSet> findByGenerationStatusIn(Collection<GenerationStatus> statuses);
+
+    List<SerialSet> findByCreatedDateBeforeAndGenerationStatusNotIn(LocalDateTime createdDate,
+                                                                   Collection<GenerationStatus> statuses,
+                                                                   Pageable pageable);
+
+    /**
+     * Lists serial set summaries in a single query, without loading entities or serial numbers.
+     */
+    @Query(SUMMARY_QUERY)
+    List<SerialSetSummaryResponse> findSummaries(Sort sort);
+
+    /**
+     * Lists one page of serial set summaries in a single query, without counting the total.
+     */
+    @Query(SUMMARY_QUERY)
+    List<SerialSetSummaryResponse> findSummaries(Pageable pageable);
+
+    /**
+     * Adds a persisted batch to the generated count of a serial set without loading it.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SerialSet s SET s.generatedCount = s.generatedCount + :count WHERE s.id = :id")
+    int incrementGeneratedCount(@Param("id") long id, @Param("count") int count);
+
+    /**
+     * Sets the generation status of a serial set without touching its other columns.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SerialSet s SET s.generationStatus = :status WHERE s.id = :id")
+    int updateGenerationStatus(@Param("id") long id, @Param("status") GenerationStatus status);
+
+    /**
+     * Records the first permutation counter not yet handed to a generation run.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SerialSet s SET s.permutationOffset = :offset WHERE s.id = :id")
+    int updatePermutationOffset(@Param("id") long id, @Param("offset") long offset);
+
+    /**
+     * Renews the heartbeat of the unfinished serial sets a node owns.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SerialSet s SET s.heartbeatAt = :now WHERE s.ownerNode = :owner AND s.generationStatus IN :statuses")
+    int renewHeartbeat(@Param("owner") String owner, @Param("now") LocalDateTime now,
+                       @Param("statuses") Collection<GenerationStatus> statuses);
+
+    /**
+     * Makes a node the owner of an unfinished serial set, unless another node owns it with a heartbeat not yet expired.
+     *
+     * @return 1 when the node now owns the serial set, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SerialSet s SET s.ownerNode = :owner, s.heartbeatAt = :now WHERE s.id = :id"
+            + " AND s.generationStatus IN :statuses AND (s.ownerNode IS NULL OR s.ownerNode = :owner"
+            + " OR s.heartbeatAt IS NULL OR s.heartbeatAt < :expiredBefore)")
+    int claimOwnership(@Param("id") long id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                       @Param("expiredBefore") LocalDateTime expiredBefore,
+                       @Param("statuses") Collection<GenerationStatus> statuses);
 }
@@ -0,0 +1,34 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Priority queue refusing new elements once it holds its capacity, so a thread pool using it rejects
+ * work instead of queueing it without limit.
+ *
+ * @param <E> The type of the queued elements, ordered by their natural ordering
+ */
+public class BoundedPriorityBlockingQueue<E> extends PriorityBlockingQueue<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+
+    /**
+     * @param capacity The maximum number of queued elements
+     */
+    public BoundedPriorityBlockingQueue(final int capacity) {
+        super(Math.max(1, capacity));
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public synchronized boolean offer(final E e) {
+        return size() < capacity && super.offer(e);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+}
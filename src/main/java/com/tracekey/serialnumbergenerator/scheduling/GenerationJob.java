@@ -0,0 +1,53 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation job queued on the generation job executor.
+ * Jobs with a lower priority value run first; jobs of equal priority run in submission order.
+ */
+@Getter
+public class GenerationJob implements Runnable, Comparable<GenerationJob> {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final String name;
+
+    private final long priority;
+
+    private final long sequence = SEQUENCE.getAndIncrement();
+
+    private final Runnable task;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * @param name     The name of the job
+     * @param priority The priority of the job, lower values run first
+     * @param task     The work of the job
+     */
+    public GenerationJob(final String name, final long priority, final Runnable task) {
+        this.name = name;
+        this.priority = priority;
+        this.task = task;
+    }
+
+    @Override
+    public void run() {
+        try {
+            task.run();
+            completion.complete(null);
+        } catch (RuntimeException | Error e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public int compareTo(final GenerationJob other) {
+        final int byPriority = Long.compare(priority, other.priority);
+        return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+}
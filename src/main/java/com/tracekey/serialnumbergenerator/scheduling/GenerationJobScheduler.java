@@ -0,0 +1,80 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Scheduler running generation jobs on the dedicated, bounded generation job executor.
+ * Jobs are prioritized so small sets are not stuck behind large ones, and submissions beyond the queue capacity
+ * are handled by the executor's rejection policy.
+ * The numbers of running and queued jobs are exposed as gauges.
+ */
+@Component
+@Slf4j
+public class GenerationJobScheduler implements MeterBinder {
+
+    /**
+     * Error message for a job rejected because the generation queue is full.
+     */
+    private static final String QUEUE_FULL_ERROR_MESSAGE = "Too many generation jobs queued, try again later";
+
+    private final ThreadPoolExecutor generationJobExecutor;
+
+    public GenerationJobScheduler(@Qualifier("generationJobExecutor") final ThreadPoolExecutor generationJobExecutor) {
+        this.generationJobExecutor = generationJobExecutor;
+    }
+
+    /**
+     * Submits a generation job.
+     *
+     * @param name     The name of the job
+     * @param priority The priority of the job, lower values run first
+     * @param task     The work of the job
+     * @return Future completed when the job finishes
+     */
+    public CompletableFuture<Void> submit(final String name, final long priority, final Runnable task) {
+        final GenerationJob job = new GenerationJob(name, priority, task);
+        try {
+            generationJobExecutor.execute(job);
+        } catch (RejectedExecutionException e) {
+            log.error("Generation job rejected, queue is full: {}", name);
+            throw new SerialSetException(QUEUE_FULL_ERROR_MESSAGE);
+        }
+        log.debug("Generation job submitted: {} (priority {}, {} queued, {} running)",
+                name, priority, generationJobExecutor.getQueue().size(), generationJobExecutor.getActiveCount());
+        return job.getCompletion();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("serialset.jobs.running", this, GenerationJobScheduler::getRunningJobs)
+                .description("Generation jobs running")
+                .register(registry);
+        Gauge.builder("serialset.jobs.queued", this, GenerationJobScheduler::getQueuedJobs)
+                .description("Generation jobs waiting to run")
+                .register(registry);
+    }
+
+    /**
+     * @return The number of jobs waiting to run
+     */
+    public int getQueuedJobs() {
+        return generationJobExecutor.getQueue().size();
+    }
+
+    /**
+     * @return The number of jobs running
+     */
+    public int getRunningJobs() {
+        return generationJobExecutor.getActiveCount();
+    }
+}
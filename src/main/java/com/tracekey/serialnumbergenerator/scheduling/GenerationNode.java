@@ -0,0 +1,71 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Identity of this node among the instances sharing the database.
+ * Serial sets generated by a single node record it as their owner, and the node periodically renews the heartbeat of
+ * the unfinished sets it owns; a set whose heartbeat is older than the heartbeat timeout belongs to a node that
+ * stopped, and may be taken over by another one.
+ */
+@Component
+@Slf4j
+public class GenerationNode {
+
+    /**
+     * Serial sets a node is still generating.
+     */
+    public static final Set<GenerationStatus> UNFINISHED_STATUSES = EnumSet.of(GenerationStatus.PENDING, GenerationStatus.RUNNING);
+
+    /**
+     * Age in milliseconds after which the heartbeat of a serial set is expired loaded from properties.
+     */
+    @Value("${serialSet.recovery.heartbeatTimeout:60000}")
+    private long heartbeatTimeoutMillis;
+
+    private final SerialSetRepository serialSetRepository;
+
+    /**
+     * Identifier of this node in the lease table and in the owner of serial sets.
+     */
+    private final String nodeId;
+
+    public GenerationNode(final SerialSetRepository serialSetRepository,
+                          @Value("${serialSet.distributed.nodeId:}") final String nodeId) {
+        this.serialSetRepository = serialSetRepository;
+        this.nodeId = nodeId.isEmpty() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return The heartbeat before which the serial sets of a node are considered abandoned
+     */
+    public LocalDateTime getHeartbeatExpiry() {
+        return LocalDateTime.now().minus(heartbeatTimeoutMillis, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Renews the heartbeat of the unfinished serial sets owned by this node.
+     */
+    @Scheduled(fixedDelayString = "${serialSet.recovery.heartbeatInterval:10000}")
+    public void heartbeat() {
+        final int renewed = serialSetRepository.renewHeartbeat(nodeId, LocalDateTime.now(), UNFINISHED_STATUSES);
+        if (renewed > 0) {
+            log.debug("Node {} renewed the heartbeat of {} serial sets", nodeId, renewed);
+        }
+    }
+}
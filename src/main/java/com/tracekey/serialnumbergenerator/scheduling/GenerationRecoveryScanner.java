@@ -0,0 +1,103 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import com.tracekey.serialnumbergenerator.repository.GenerationPartitionRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Resumes the generation of serial sets left unfinished by a previous run of the application.
+ * Sets still PENDING lost their queued job and sets still RUNNING were interrupted; both are resubmitted and
+ * continue from their last committed batch. A node only resumes the sets it owned before it restarted, and the sets
+ * of other nodes once their heartbeat has expired; each set is claimed in the database first, so a set is never
+ * resumed by two nodes. Distributed sets are left to the partition lease workers of every node.
+ */
+@Component
+@Slf4j
+public class GenerationRecoveryScanner {
+
+    /**
+     * Whether unfinished serial sets are resumed loaded from properties.
+     */
+    @Value("${serialSet.recovery.enabled:true}")
+    private boolean recoveryEnabled;
+
+    private final SerialSetRepository serialSetRepository;
+
+    private final ISerialSetService serialSetService;
+
+    private final GenerationPartitionRepository generationPartitionRepository;
+
+    private final GenerationNode generationNode;
+
+    public GenerationRecoveryScanner(final SerialSetRepository serialSetRepository, final ISerialSetService serialSetService,
+                                     final GenerationPartitionRepository generationPartitionRepository,
+                                     final GenerationNode generationNode) {
+        this.serialSetRepository = serialSetRepository;
+        this.serialSetService = serialSetService;
+        this.generationPartitionRepository = generationPartitionRepository;
+        this.generationNode = generationNode;
+    }
+
+    /**
+     * Resubmits the unfinished serial sets of this node and of stopped nodes once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedSerialSets() {
+        resume(true);
+    }
+
+    /**
+     * Takes over the unfinished serial sets of nodes that stopped while this one is running.
+     */
+    @Scheduled(fixedDelayString = "${serialSet.recovery.heartbeatTimeout:60000}",
+            initialDelayString = "${serialSet.recovery.heartbeatTimeout:60000}")
+    public void takeOverAbandonedSerialSets() {
+        resume(false);
+    }
+
+    /**
+     * Claims and resubmits unfinished serial sets.
+     *
+     * @param includeOwn Whether the sets owned by this node are resumed too, i.e. its previous run left them behind
+     */
+    private synchronized void resume(final boolean includeOwn) {
+        if (!recoveryEnabled) {
+            return;
+        }
+        final String nodeId = generationNode.getNodeId();
+        final LocalDateTime expiredBefore = generationNode.getHeartbeatExpiry();
+        final List<SerialSet> unfinished =
+                serialSetRepository.findByGenerationStatusIn(GenerationNode.UNFINISHED_STATUSES)
+                        .stream()
+                        .filter(serialSet -> includeOwn || !nodeId.equals(serialSet.getOwnerNode()))
+                        .filter(serialSet -> !generationPartitionRepository.existsBySerialSetId(serialSet.getId()))
+                        .filter(serialSet -> serialSetRepository.claimOwnership(serialSet.getId(), nodeId,
+                                LocalDateTime.now(), expiredBefore, GenerationNode.UNFINISHED_STATUSES) > 0)
+                        .collect(Collectors.toList());
+        for (SerialSet serialSet : unfinished) {
+            log.info("Resuming generation of serial set {} at {}/{}, previously owned by {}", serialSet.getName(),
+                    serialSet.getGeneratedCount(), serialSet.getQuantity(), serialSet.getOwnerNode());
+            try {
+                serialSetService.generateSerialNumbersAsync(serialSet.setOwnerNode(nodeId));
+            } catch (SerialSetException e) {
+                log.warn("Could not resume serial set {}, it stays {}: {}", serialSet.getName(),
+                        serialSet.getGenerationStatus(), e.getMessage());
+            }
+        }
+        if (!unfinished.isEmpty()) {
+            log.info("Resubmitted {} unfinished serial sets", unfinished.size());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationPartition;
+import com.tracekey.serialnumbergenerator.repository.GenerationPartitionRepository;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Leases partitions of distributed serial sets from the shared partition table and generates them on this node.
+ * Every node runs one, so generation throughput grows with the number of instances. A lease is renewed with every
+ * committed batch; the partitions of a node that stalls or dies are taken over by another node once their leases
+ * expire, and resume from their last committed batch.
+ */
+@Component
+@Slf4j
+public class PartitionLeaseWorker {
+
+    /**
+     * Whether this node generates partitions of distributed serial sets loaded from properties.
+     */
+    @Value("${serialSet.distributed.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * Number of partitions this node generates at once loaded from properties.
+     */
+    @Value("${serialSet.distributed.workers:2}")
+    private int workers;
+
+    /**
+     * Duration of a partition lease in milliseconds loaded from properties.
+     */
+    @Value("${serialSet.distributed.leaseDuration:60000}")
+    private long leaseDurationMillis;
+
+    private final GenerationPartitionRepository generationPartitionRepository;
+
+    private final ISerialSetService serialSetService;
+
+    /**
+     * Identifier of this node in the lease table.
+     */
+    private final String nodeId;
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private ExecutorService partitionExecutor;
+
+    public PartitionLeaseWorker(final GenerationPartitionRepository generationPartitionRepository,
+                                final ISerialSetService serialSetService, final GenerationNode generationNode) {
+        this.generationPartitionRepository = generationPartitionRepository;
+        this.serialSetService = serialSetService;
+        this.nodeId = generationNode.getNodeId();
+    }
+
+    /**
+     * Leases as many free or expired partitions as this node has idle workers, and starts generating them.
+     */
+    @Scheduled(fixedDelayString = "${serialSet.distributed.pollInterval:5000}")
+    public void leasePartitions() {
+        final int idle = workers - running.get();
+        if (!enabled || idle <= 0) {
+            return;
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        for (GenerationPartition partition : generationPartitionRepository.findLeasable(now, PageRequest.of(0, idle))) {
+            if (generationPartitionRepository.acquireLease(partition.getId(), nodeId,
+                    now.plus(leaseDurationMillis, ChronoUnit.MILLIS), now) == 0) {
+                continue;
+            }
+            // The previous owner may have checkpointed between the listing and the lease; resume from its last batch
+            final GenerationPartition leased = generationPartitionRepository.findById(partition.getId()).orElse(null);
+            if (leased == null) {
+                continue;
+            }
+            log.debug("Node {} leased partition {} of serial set {} at counter {}", nodeId, leased.getPartitionIndex(),
+                    leased.getSerialSetId(), leased.getNextCounter());
+            running.incrementAndGet();
+            getPartitionExecutor().execute(() -> {
+                try {
+                    serialSetService.generatePartition(leased, nodeId);
+                } catch (RuntimeException e) {
+                    log.error("Error generating partition {} of serial set {}, it is retried once its lease expires",
+                            leased.getPartitionIndex(), leased.getSerialSetId(), e);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private synchronized ExecutorService getPartitionExecutor() {
+        if (partitionExecutor == null) {
+            partitionExecutor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("generation-partition-"));
+        }
+        return partitionExecutor;
+    }
+
+    /**
+     * Stops generating when the application stops; leased partitions are taken over once their leases expire.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (partitionExecutor != null) {
+            partitionExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.export.ExportCache;
+import com.tracekey.serialnumbergenerator.repository.GenerationPartitionRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import com.tracekey.serialnumbergenerator.service.ISerialClaimService;
+import com.tracekey.serialnumbergenerator.service.ISerialVerificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes serial sets with set-based statements instead of one DELETE per serial number.
+ * <p>
+ * Serial numbers are deleted by ID range in chunks, each chunk its own short statement, so no single transaction
+ * holds locks on millions of rows. Sets of at least the async threshold are marked DELETING and purged in the
+ * background; purges interrupted by a restart are resumed at startup. A retention policy periodically purges
+ * serial sets older than the configured number of days.
+ */
+@Component
+@Slf4j
+public class SerialSetPurger {
+
+    /**
+     * Number of consecutive serial number IDs deleted per statement loaded from properties.
+     */
+    @Value("${serialSet.purge.chunkSize:50000}")
+    private int chunkSize;
+
+    /**
+     * Minimum serial set quantity purged in the background loaded from properties.
+     */
+    @Value("${serialSet.purge.asyncThreshold:100000}")
+    private int asyncThreshold;
+
+    /**
+     * Age in days after which serial sets are purged loaded from properties; zero or less keeps them forever.
+     */
+    @Value("${serialSet.retention.days:0}")
+    private int retentionDays;
+
+    /**
+     * Maximum number of expired serial sets purged per retention run loaded from properties.
+     */
+    @Value("${serialSet.retention.batchSize:10}")
+    private int retentionBatchSize;
+
+    private final SerialSetRepository serialSetRepository;
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    private final ExportCache exportCache;
+
+    private final ISerialVerificationService serialVerificationService;
+
+    private final ISerialClaimService serialClaimService;
+
+    private final GenerationPartitionRepository generationPartitionRepository;
+
+    /**
+     * Single background thread running purges one after the other.
+     */
+    private final ExecutorService purgeExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("serial-set-purge-"));
+
+    public SerialSetPurger(final SerialSetRepository serialSetRepository,
+                           final SerialNumberJdbcRepository serialNumberJdbcRepository,
+                           final ExportCache exportCache, final ISerialVerificationService serialVerificationService,
+                           final ISerialClaimService serialClaimService,
+                           final GenerationPartitionRepository generationPartitionRepository) {
+        this.serialSetRepository = serialSetRepository;
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+        this.exportCache = exportCache;
+        this.serialVerificationService = serialVerificationService;
+        this.serialClaimService = serialClaimService;
+        this.generationPartitionRepository = generationPartitionRepository;
+    }
+
+    /**
+     * Deletes a serial set, in the background when it is large.
+     *
+     * @param serialSet The serial set to delete
+     * @return Whether the deletion finished before returning
+     */
+    public boolean delete(final SerialSet serialSet) {
+        exportCache.invalidate(serialSet.getId());
+        serialVerificationService.evict(serialSet);
+        serialClaimService.evict(serialSet.getName());
+        if (serialSet.getQuantity() < asyncThreshold) {
+            purge(serialSet);
+            return true;
+        }
+        serialSet.setGenerationStatus(GenerationStatus.DELETING);
+        serialSetRepository.updateGenerationStatus(serialSet.getId(), GenerationStatus.DELETING);
+        purgeAsync(serialSet);
+        return false;
+    }
+
+    /**
+     * Deletes the serial numbers of a serial set chunk by chunk, then the serial set itself.
+     * Partitions go first, so nodes generating them lose their leases and stop. The ID range is read again after
+     * each pass until no serial number is left, so rows a stopping writer committed meanwhile are purged as well.
+     *
+     * @param serialSet The serial set to purge
+     */
+    public void purge(final SerialSet serialSet) {
+        generationPartitionRepository.deleteBySerialSetId(serialSet.getId());
+        long deleted = 0;
+        for (long[] idRange = serialNumberJdbcRepository.findIdRange(serialSet.getId()); idRange != null;
+             idRange = serialNumberJdbcRepository.findIdRange(serialSet.getId())) {
+            for (long fromId = idRange[0]; fromId <= idRange[1]; fromId += chunkSize) {
+                deleted += serialNumberJdbcRepository.deleteRange(serialSet.getId(), fromId, fromId + chunkSize);
+                log.debug("Purged {} serial numbers of serial set {} so far", deleted, serialSet.getName());
+            }
+        }
+        serialSetRepository.deleteById(serialSet.getId());
+        log.info("Purged serial set {} and its {} serial numbers", serialSet.getName(), deleted);
+    }
+
+    /**
+     * Resumes the purges interrupted by a previous run of the application.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedPurges() {
+        serialSetRepository.findByGenerationStatusIn(EnumSet.of(GenerationStatus.DELETING)).forEach(serialSet -> {
+            log.info("Resuming purge of serial set {}", serialSet.getName());
+            purgeAsync(serialSet);
+        });
+    }
+
+    /**
+     * Purges serial sets older than the retention period, a bounded batch per run.
+     */
+    @Scheduled(fixedDelayString = "${serialSet.retention.checkInterval:3600000}",
+            initialDelayString = "${serialSet.retention.checkInterval:3600000}")
+    public void purgeExpiredSerialSets() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        final List<SerialSet> expired = serialSetRepository.findByCreatedDateBeforeAndGenerationStatusNotIn(
+                LocalDateTime.now().minusDays(retentionDays),
+                EnumSet.of(GenerationStatus.PENDING, GenerationStatus.RUNNING, GenerationStatus.DELETING),
+                PageRequest.of(0, retentionBatchSize));
+        if (!expired.isEmpty()) {
+            log.info("Purging {} serial sets older than {} days", expired.size(), retentionDays);
+        }
+        for (SerialSet serialSet : expired) {
+            exportCache.invalidate(serialSet.getId());
+            serialVerificationService.evict(serialSet);
+            serialClaimService.evict(serialSet.getName());
+            serialSetRepository.updateGenerationStatus(serialSet.getId(), GenerationStatus.DELETING);
+            purgeAsync(serialSet);
+        }
+    }
+
+    private void purgeAsync(final SerialSet serialSet) {
+        purgeExecutor.execute(() -> {
+            try {
+                purge(serialSet);
+            } catch (RuntimeException e) {
+                log.error("Error purging serial set {}, it stays DELETING until the next restart", serialSet.getName(), e);
+            }
+        });
+    }
+
+    /**
+     * Stops the purge thread when the application stops; unfinished purges resume at the next startup.
+     */
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdownNow();
+    }
+}
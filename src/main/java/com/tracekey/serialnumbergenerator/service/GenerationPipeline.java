@@ -0,0 +1,239 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Producer/consumer pipeline decoupling serial generation from persistence.
+ * Producers push fixed-size batches into a bounded queue and writer threads drain it, so generation and database
+ * round trips overlap while the queue depth bounds the number of batches held in memory: producers block when it is full.
+ * One pipeline instance runs one generation job.
+ */
+@Slf4j
+class GenerationPipeline {
+
+    /**
+     * Marker telling a writer that no more batches will come.
+     */
+    private static final List<String> END_OF_STREAM = Collections.emptyList();
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final String name;
+
+    private final BlockingQueue<List<String>> queue;
+
+    private final int writers;
+
+    private final Consumer<List<String>> writer;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final AtomicLong generatedSerials = new AtomicLong();
+
+    private final AtomicLong generationNanos = new AtomicLong();
+
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    private final AtomicLong writtenSerials = new AtomicLong();
+
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    /**
+     * @param name       The name of the job, used in thread names and logs
+     * @param queueDepth The maximum number of batches waiting to be written
+     * @param writers    The number of writer threads
+     * @param writer     The action persisting one batch
+     */
+    GenerationPipeline(final String name, final int queueDepth, final int writers, final Consumer<List<String>> writer) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueDepth));
+        this.writers = Math.max(1, writers);
+        this.writer = writer;
+    }
+
+    /**
+     * Runs the producers on the given executor and writes their batches until every producer is done.
+     * The first failure of any stage stops the whole pipeline and is rethrown.
+     *
+     * @param producerExecutor The executor running the producers
+     * @param producers        The producers, each pushing its batches into the sink it is given
+     * @return The throughput statistics of the run
+     */
+    Stats run(final ExecutorService producerExecutor, final List<Consumer<Consumer<List<String>>>> producers) {
+        final long start = System.nanoTime();
+        final ExecutorService writerExecutor = Executors.newFixedThreadPool(writers, runnable -> {
+            final Thread thread = new Thread(runnable, "serial-writer-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<?>> writerTasks = new ArrayList<>(writers);
+            for (int i = 0; i < writers; i++) {
+                writerTasks.add(writerExecutor.submit(this::drain));
+            }
+            final List<Future<?>> producerTasks = new ArrayList<>(producers.size());
+            for (Consumer<Consumer<List<String>>> producer : producers) {
+                producerTasks.add(producerExecutor.submit(() -> produce(producer)));
+            }
+            producerTasks.forEach(this::await);
+            for (int i = 0; i < writers; i++) {
+                put(END_OF_STREAM, true);
+            }
+            writerTasks.forEach(this::await);
+        } finally {
+            writerExecutor.shutdownNow();
+        }
+        rethrowFailure();
+        final Stats stats = new Stats(generatedSerials.get(), generationNanos.get() / producers.size(),
+                blockedNanos.get() / producers.size(), writtenSerials.get(), writeNanos.get() / writers,
+                System.nanoTime() - start);
+        log.info("Pipeline for serial set {} finished: {}", name, stats);
+        return stats;
+    }
+
+    private void produce(final Consumer<Consumer<List<String>>> producer) {
+        final long start = System.nanoTime();
+        final long[] blocked = new long[1];
+        try {
+            producer.accept(batch -> {
+                generatedSerials.addAndGet(batch.size());
+                blocked[0] += put(batch, false);
+            });
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            generationNanos.addAndGet(System.nanoTime() - start - blocked[0]);
+            blockedNanos.addAndGet(blocked[0]);
+        }
+    }
+
+    /**
+     * Writes batches until an end-of-stream marker arrives.
+     * After a failure the writer keeps draining, discarding batches, so producers and end-of-stream markers never block.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                final List<String> batch = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (batch == END_OF_STREAM) {
+                    return;
+                }
+                if (batch == null || failure.get() != null) {
+                    continue;
+                }
+                try {
+                    final long start = System.nanoTime();
+                    writer.accept(batch);
+                    writeNanos.addAndGet(System.nanoTime() - start);
+                    writtenSerials.addAndGet(batch.size());
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Puts a batch into the queue, blocking while it is full.
+     * Batches are abandoned once a stage has failed; end-of-stream markers always get through.
+     *
+     * @return The time spent waiting for room in the queue, in nanoseconds
+     */
+    private long put(final List<String> batch, final boolean endOfStream) {
+        final long start = System.nanoTime();
+        try {
+            do {
+                if (!endOfStream && failure.get() != null) {
+                    throw new IllegalStateException("Generation pipeline stopped after a failure", failure.get());
+                }
+            } while (!queue.offer(batch, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing serial numbers", e);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void await(final Future<?> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (Exception e) {
+            failure.compareAndSet(null, e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private void rethrowFailure() {
+        final Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause != null) {
+            throw new IllegalStateException("Generation pipeline failed", cause);
+        }
+    }
+
+    /**
+     * Per-stage throughput of a pipeline run. Stage times are per thread of the stage.
+     */
+    @Getter
+    static class Stats {
+
+        private final long generatedSerials;
+
+        private final long generationNanos;
+
+        private final long blockedNanos;
+
+        private final long writtenSerials;
+
+        private final long writeNanos;
+
+        private final long elapsedNanos;
+
+        Stats(final long generatedSerials, final long generationNanos, final long blockedNanos,
+              final long writtenSerials, final long writeNanos, final long elapsedNanos) {
+            this.generatedSerials = generatedSerials;
+            this.generationNanos = generationNanos;
+            this.blockedNanos = blockedNanos;
+            this.writtenSerials = writtenSerials;
+            this.writeNanos = writeNanos;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private static long perSecond(final long count, final long nanos) {
+            return nanos > 0 ? count * TimeUnit.SECONDS.toNanos(1) / nanos : count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("generation %d serials/s, persistence %d serials/s, overall %d serials/s, "
+                            + "producers blocked %d ms, elapsed %d ms",
+                    perSecond(generatedSerials, generationNanos), perSecond(writtenSerials, writeNanos),
+                    perSecond(writtenSerials, elapsedNanos), TimeUnit.NANOSECONDS.toMillis(blockedNanos),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+}
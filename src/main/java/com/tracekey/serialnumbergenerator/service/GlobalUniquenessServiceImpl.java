@@ -0,0 +1,140 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import com.tracekey.serialnumbergenerator.generator.ShardedBloomFilter;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Implementation of the GlobalUniquenessService interface keeping serial numbers unique across all serial sets.
+ * <p>
+ * When enabled, a unique index on serial_number.value is created at startup and every persisted serial number is
+ * streamed once into a sharded Bloom filter of bounded size. Generation claims each candidate in the filter and
+ * draws another one when the filter might already contain it, so almost no conflict reaches the database; the few
+ * that do, from false negatives of concurrent claims or other nodes, are rejected by the unique index and resolved
+ * by retrying the batch. Serial numbers of deleted sets stay in the filter until the next restart.
+ */
+@Service
+@Slf4j
+public class GlobalUniquenessServiceImpl implements IGlobalUniquenessService {
+
+    /**
+     * Whether serial numbers must be unique across all serial sets loaded from properties.
+     */
+    @Value("${serialSet.uniqueness.global:false}")
+    private boolean enabled;
+
+    /**
+     * Number of serial numbers the global filter is sized for loaded from properties; bounds its memory.
+     */
+    @Value("${serialSet.uniqueness.capacity:50000000}")
+    private long capacity;
+
+    /**
+     * Accepted false positive probability of the global filter loaded from properties.
+     */
+    @Value("${serialSet.uniqueness.falsePositiveRate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * Number of shards of the global filter loaded from properties.
+     */
+    @Value("${serialSet.uniqueness.shards:64}")
+    private int shards;
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    /**
+     * Filter of every persisted or claimed serial number, null when the mode is disabled.
+     */
+    private ShardedBloomFilter filter;
+
+    /**
+     * Released once the filter holds every serial number persisted before startup.
+     */
+    private final CountDownLatch warmedUp = new CountDownLatch(1);
+
+    public GlobalUniquenessServiceImpl(final SerialNumberJdbcRepository serialNumberJdbcRepository) {
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+    }
+
+    @PostConstruct
+    void createFilter() {
+        if (enabled) {
+            filter = ShardedBloomFilter.create(capacity, falsePositiveRate, shards);
+            log.info("Global uniqueness enabled, filter of {} shards holds {} bytes", shards, filter.getSizeInBytes());
+        } else {
+            warmedUp.countDown();
+        }
+    }
+
+    /**
+     * @return Whether serial numbers must be unique across all serial sets
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Blocks until the filter holds every serial number persisted before startup; returns at once when disabled.
+     *
+     * @throws SerialSetException if the calling thread is interrupted
+     */
+    @Override
+    public void awaitWarmUp() {
+        try {
+            warmedUp.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerialSetException("Interrupted while waiting for the global uniqueness filter");
+        }
+    }
+
+    /**
+     * Claims a candidate serial number for generation.
+     *
+     * @param value The candidate serial number
+     * @return False when another serial set might already hold it and another candidate must be drawn;
+     * always true when the mode is disabled
+     */
+    @Override
+    public boolean claim(final String value) {
+        return filter == null || filter.put(value);
+    }
+
+    /**
+     * Creates the unique index and fills the filter by streaming every persisted serial number once at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (filter == null) {
+            return;
+        }
+        try {
+            serialNumberJdbcRepository.createUniqueValueIndex();
+        } catch (DataAccessException e) {
+            log.error("Could not create the unique index on serial_number.value, remove duplicate serial numbers first", e);
+        }
+        try {
+            final long start = System.nanoTime();
+            serialNumberJdbcRepository.forEachValue(filter::put);
+            log.info("Warmed up global uniqueness filter with {} serial numbers in {} ms", filter.getInsertions(),
+                    (System.nanoTime() - start) / 1_000_000);
+            if (filter.getInsertions() > filter.getCapacity()) {
+                log.warn("Global uniqueness filter holds {} serial numbers but is sized for {}, raise serialSet.uniqueness.capacity",
+                        filter.getInsertions(), filter.getCapacity());
+            }
+        } finally {
+            warmedUp.countDown();
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package com.tracekey.serialnumbergenerator.service;
-
-public interface ICsvExportService {
-
-    void exportSerialNumbersToCSV(String serialSetName);
-}
@@ -0,0 +1,10 @@
+package com.tracekey.serialnumbergenerator.service;
+
+public interface IGlobalUniquenessService {
+
+    boolean isEnabled();
+
+    void awaitWarmUp();
+
+    boolean claim(String value);
+}
@@ -0,0 +1,10 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.dto.SerialClaimResponse;
+
+public interface ISerialClaimService {
+
+    SerialClaimResponse claim(String name, int count);
+
+    void evict(String name);
+}
@@ -0,0 +1,12 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+
+import java.util.List;
+
+public interface ISerialNumberWriter {
+
+    int getMinimumBatchSize(SerialSet serialSet);
+
+    void write(SerialSet serialSet, List<String> values);
+}
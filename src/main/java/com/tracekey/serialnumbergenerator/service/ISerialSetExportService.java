@@ -0,0 +1,14 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.export.ExportFormat;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
+
+public interface ISerialSetExportService {
+
+    Optional<Resource> findCachedExport(String serialSetName, ExportFormat format);
+
+    StreamingResponseBody exportSerialNumbers(String serialSetName, ExportFormat format);
+}
@@ -1,8 +1,14 @@
 package com.tracekey.serialnumbergenerator.service;
 
+import com.tracekey.serialnumbergenerator.entity.GenerationPartition;
 import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.dto.SerialNumberPageResponse;
 import com.tracekey.serialnumbergenerator.dto.SerialSetRequest;
 import com.tracekey.serialnumbergenerator.dto.SerialSetResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialSetStatusResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialSetSummaryResponse;
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -11,10 +17,20 @@ public interface ISerialSetService {
 
     SerialSetResponse createSerialSet(SerialSetRequest serialSet);
 
-    List<SerialSetResponse> getAllSerialSets();
+    SerialSetResponse allocateSerialSet(SerialSetRequest serialSet);
+
+    List<SerialSetSummaryResponse> getAllSerialSets();
+
+    List<SerialSetSummaryResponse> getAllSerialSets(Integer page, int size, String sort, Sort.Direction direction);
 
     SerialSetResponse getSerialSetByName(String name);
 
+    SerialSetResponse getSerialSetByName(String name, boolean metadataOnly);
+
+    SerialNumberPageResponse getSerialNumbers(String name, long after, int limit);
+
+    SerialSetStatusResponse getSerialSetStatus(String name);
+
     void deleteSerialSetByName(String name);
 
     CompletableFuture<Void> generateSerialNumbersAsync(SerialSet serialSet);
@@ -23,12 +39,18 @@ public interface ISerialSetService {
 
     String removeExclusions(String input, String exclusions);
 
+    Alphabet getAlphabet(SerialSet serialSet);
+
     void generateSerialNumbers(SerialSet serialSet);
 
+    void generatePartition(GenerationPartition partition, String owner);
+
     void validateSerialSet(SerialSet serialSet);
 
     void saveSerialSet(SerialSet serialSet);
 
+    List<String> generateSerialBatch(SerialSet serialSet, Alphabet alphabet, int count);
+
     String generateSingleSerial(SerialSet serialSet,String characters);
 
     void validateSerialSetConfiguration(SerialSet serialSet);
@@ -0,0 +1,19 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.dto.SerialVerificationResponse;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+
+import java.util.List;
+
+public interface ISerialVerificationService {
+
+    SerialVerificationResponse verify(String value);
+
+    void register(SerialSet serialSet);
+
+    void record(SerialSet serialSet, List<String> values);
+
+    void complete(SerialSet serialSet);
+
+    void evict(SerialSet serialSet);
+}
@@ -0,0 +1,152 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.dto.SerialClaimResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialNumberResponse;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the SerialClaimService interface issuing unissued serial numbers exactly once.
+ * <p>
+ * Each node claims serial numbers from the database ahead of demand, a prefetch batch at a time, and hands them out
+ * from memory, so most claims never reach the database. The database claim itself is atomic, see
+ * {@link SerialNumberJdbcRepository#claimUnissued}, so nodes never prefetch the same serial number. Prefetched
+ * serial numbers are already marked issued: those still buffered when a node stops are never handed out.
+ */
+@Service
+@Slf4j
+public class SerialClaimServiceImpl implements ISerialClaimService {
+
+    /**
+     * Template for error message for an invalid claim count.
+     */
+    private static final String CLAIM_COUNT_ERROR_MESSAGE_TEMPLATE = "Claim count must be between 1 and %d";
+
+    /**
+     * Template for error message when a serial set is not found.
+     */
+    private static final String NOT_FOUND_ERROR_MESSAGE_TEMPLATE = "Serial set not found with ID: %s";
+
+    /**
+     * Maximum number of serial numbers claimed at once loaded from properties.
+     */
+    @Value("${serialSet.claim.maxCount:1000}")
+    private int maxClaimCount;
+
+    /**
+     * Number of serial numbers claimed from the database ahead of demand loaded from properties.
+     */
+    @Value("${serialSet.claim.prefetchSize:1000}")
+    private int prefetchSize;
+
+    private final SerialSetRepository serialSetRepository;
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    /**
+     * Prefetched serial numbers by serial set name.
+     */
+    private final Map<String, ClaimBuffer> buffers = new ConcurrentHashMap<>();
+
+    public SerialClaimServiceImpl(final SerialSetRepository serialSetRepository,
+                                  final SerialNumberJdbcRepository serialNumberJdbcRepository) {
+        this.serialSetRepository = serialSetRepository;
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+    }
+
+    /**
+     * Claims the next unissued serial numbers of a serial set.
+     *
+     * @param name  The name of the serial set
+     * @param count The number of serial numbers to claim
+     * @return The claimed serial numbers, fewer than requested when the serial set runs out
+     * @throws SerialSetException if the count is out of range or the serial set does not exist
+     */
+    @Override
+    public SerialClaimResponse claim(final String name, final int count) {
+        if (count < 1 || count > maxClaimCount) {
+            throw new SerialSetException(String.format(CLAIM_COUNT_ERROR_MESSAGE_TEMPLATE, maxClaimCount));
+        }
+        final ClaimBuffer buffer = buffers.computeIfAbsent(name, this::createBuffer);
+        final List<String> serials = new ArrayList<>(count);
+        synchronized (buffer) {
+            if (buffer.serials.size() < count) {
+                prefetch(buffer, count - buffer.serials.size() + prefetchSize);
+            }
+            while (serials.size() < count && !buffer.serials.isEmpty()) {
+                serials.add(buffer.serials.poll());
+            }
+        }
+        log.debug("Claimed {} serial numbers of serial set {} ({} prefetched left)", serials.size(), name, buffer.serials.size());
+        return new SerialClaimResponse(name, serials);
+    }
+
+    /**
+     * Drops the prefetched serial numbers of a deleted serial set.
+     *
+     * @param name The name of the serial set
+     */
+    @Override
+    public void evict(final String name) {
+        buffers.remove(name);
+    }
+
+    private ClaimBuffer createBuffer(final String name) {
+        final SerialSet serialSet = serialSetRepository.findByName(name)
+                .filter(set -> set.getGenerationStatus() != GenerationStatus.DELETING)
+                .orElseThrow(() -> new SerialSetException(String.format(NOT_FOUND_ERROR_MESSAGE_TEMPLATE, name)));
+        return new ClaimBuffer(serialSet.getId());
+    }
+
+    /**
+     * Claims serial numbers from the database into a buffer, continuing after the last ID this node claimed and
+     * wrapping around once for rows skipped while other nodes held them.
+     *
+     * @param buffer The buffer of the serial set, locked by the caller
+     * @param limit  The number of serial numbers to claim
+     */
+    private void prefetch(final ClaimBuffer buffer, final int limit) {
+        List<SerialNumberResponse> claimed = serialNumberJdbcRepository.claimUnissued(buffer.serialSetId, buffer.lastId, limit);
+        if (claimed.size() < limit && buffer.lastId > 0) {
+            add(buffer, claimed);
+            buffer.lastId = 0;
+            claimed = serialNumberJdbcRepository.claimUnissued(buffer.serialSetId, 0, limit - claimed.size());
+        }
+        add(buffer, claimed);
+    }
+
+    private static void add(final ClaimBuffer buffer, final List<SerialNumberResponse> claimed) {
+        for (SerialNumberResponse serialNumber : claimed) {
+            buffer.serials.add(serialNumber.getValue());
+            buffer.lastId = Math.max(buffer.lastId, serialNumber.getId());
+        }
+    }
+
+    private static final class ClaimBuffer {
+
+        private final long serialSetId;
+
+        private final ArrayDeque<String> serials = new ArrayDeque<>();
+
+        /**
+         * The largest ID claimed by this node, where the next database claim starts.
+         */
+        private long lastId;
+
+        private ClaimBuffer(final long serialSetId) {
+            this.serialSetId = serialSetId;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberCopyRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the SerialNumberWriter interface choosing the persistence backend of generated serial numbers.
+ * Serial sets of at least the COPY threshold are streamed with PostgreSQL COPY; smaller sets, and every set on
+ * databases without COPY support such as the H2 test database, fall back to batched JDBC inserts.
+ */
+@Service
+@Slf4j
+public class SerialNumberWriterImpl implements ISerialNumberWriter {
+
+    /**
+     * Minimum serial set quantity persisted with COPY loaded from properties; zero or less disables COPY.
+     */
+    @Value("${serialSet.copy.threshold:100000}")
+    private int copyThreshold;
+
+    /**
+     * Number of serial numbers sent per COPY loaded from properties.
+     */
+    @Value("${serialSet.copy.batchSize:10000}")
+    private int copyBatchSize;
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    private final SerialNumberCopyRepository serialNumberCopyRepository;
+
+    public SerialNumberWriterImpl(final SerialNumberJdbcRepository serialNumberJdbcRepository,
+                                  final SerialNumberCopyRepository serialNumberCopyRepository) {
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+        this.serialNumberCopyRepository = serialNumberCopyRepository;
+    }
+
+    /**
+     * Gets the smallest batch the backend of a serial set handles efficiently.
+     *
+     * @param serialSet The serial set being generated
+     * @return The COPY batch size when COPY is used, zero otherwise
+     */
+    @Override
+    public int getMinimumBatchSize(final SerialSet serialSet) {
+        return useCopy(serialSet) ? copyBatchSize : 0;
+    }
+
+    /**
+     * Persists a batch of generated serial numbers of a serial set.
+     *
+     * @param serialSet The serial set the serial numbers belong to
+     * @param values    The serial numbers to persist
+     */
+    @Override
+    public void write(final SerialSet serialSet, final List<String> values) {
+        if (useCopy(serialSet)) {
+            serialNumberCopyRepository.copy(serialSet.getId(), values);
+        } else {
+            serialNumberJdbcRepository.insertBatch(serialSet.getId(), values);
+        }
+    }
+
+    private boolean useCopy(final SerialSet serialSet) {
+        return copyThreshold > 0 && serialSet.getQuantity() >= copyThreshold && serialNumberCopyRepository.isAvailable();
+    }
+}
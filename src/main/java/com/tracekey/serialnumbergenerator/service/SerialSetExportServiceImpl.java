@@ -0,0 +1,133 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.exception.CustomCsvExportException;
+import com.tracekey.serialnumbergenerator.export.CountingOutputStream;
+import com.tracekey.serialnumbergenerator.export.ExportCache;
+import com.tracekey.serialnumbergenerator.export.ExportFormat;
+import com.tracekey.serialnumbergenerator.export.ISerialNumberExporter;
+import com.tracekey.serialnumbergenerator.metrics.SerialSetMetrics;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of the SerialSetExportService interface exporting serial numbers through the registered exporters.
+ * Exports are materialized once in the export cache and then served from there as file resources, so repeated
+ * downloads are plain file transfers, with range requests, instead of database reads.
+ */
+@Service
+@Slf4j
+public class SerialSetExportServiceImpl implements ISerialSetExportService {
+
+    private static final String NOT_FOUND_ERROR_MESSAGE = "Serial set not found for export";
+    private static final String INCOMPLETE_GENERATION_ERROR_MESSAGE = "Serial set numbers generation is incomplete";
+    private static final String UNSUPPORTED_FORMAT_ERROR_MESSAGE = "Unsupported export format: %s";
+
+    private final SerialSetRepository serialSetRepository;
+
+    private final ExportCache exportCache;
+
+    private final SerialSetMetrics serialSetMetrics;
+
+    private final Map<ExportFormat, ISerialNumberExporter> exporters = new EnumMap<>(ExportFormat.class);
+
+    public SerialSetExportServiceImpl(SerialSetRepository serialSetRepository, ExportCache exportCache,
+                                      List<ISerialNumberExporter> exporters, SerialSetMetrics serialSetMetrics) {
+        this.serialSetRepository = serialSetRepository;
+        this.exportCache = exportCache;
+        this.serialSetMetrics = serialSetMetrics;
+        exporters.forEach(exporter -> this.exporters.put(exporter.getFormat(), exporter));
+    }
+
+    /**
+     * Looks up the cached export of a serial set in the given format.
+     *
+     * @param serialSetName The name of the serial set to export
+     * @param format        The export format
+     * @return The cached export file, empty when the export is not cached yet
+     */
+    @Override
+    public Optional<Resource> findCachedExport(String serialSetName, ExportFormat format) {
+        getExporter(format);
+        SerialSet serialSet = getValidSerialSet(serialSetName);
+        Optional<Resource> cachedExport = Optional.ofNullable(exportCache.find(serialSet, format));
+        cachedExport.ifPresent(resource ->
+                log.info("Serving serial numbers from the export cache as {} for serial set: {}", format, serialSetName));
+        return cachedExport;
+    }
+
+    /**
+     * Exports the serial numbers of a serial set in the given format.
+     * The serial set is validated before the response starts. The export is streamed from the database and copied
+     * into the cache on the way, so later downloads are served by {@link #findCachedExport}.
+     *
+     * @param serialSetName The name of the serial set to export
+     * @param format        The export format
+     * @return The body writing the export into the response
+     */
+    @Override
+    public StreamingResponseBody exportSerialNumbers(String serialSetName, ExportFormat format) {
+        log.info("Exporting serial numbers as {} for serial set: {}", format, serialSetName);
+        ISerialNumberExporter exporter = getExporter(format);
+        SerialSet serialSet = getValidSerialSet(serialSetName);
+        return outputStream -> {
+            try {
+                exportCache.writeThrough(serialSet, format, outputStream, target -> {
+                    long start = System.nanoTime();
+                    CountingOutputStream countingStream = new CountingOutputStream(target);
+                    exporter.export(serialSet, countingStream);
+                    long elapsed = System.nanoTime() - start;
+                    serialSetMetrics.recordExport(serialSet, format, countingStream.getCount(), serialSet.getGeneratedCount(), elapsed);
+                    log.debug("Wrote {} bytes of {} serial numbers as {} for serial set {} in {} ms", countingStream.getCount(),
+                            serialSet.getGeneratedCount(), format, serialSetName, elapsed / 1_000_000);
+                });
+            } catch (IOException e) {
+                log.error("Error exporting serial numbers as {} for serial set: {}", format, serialSetName, e);
+                throw e;
+            }
+            log.info("Serial numbers exported as {} successfully for serial set: {}", format, serialSetName);
+        };
+    }
+
+    private ISerialNumberExporter getExporter(ExportFormat format) {
+        return Optional.ofNullable(exporters.get(format))
+                .orElseThrow(() -> new CustomCsvExportException(String.format(UNSUPPORTED_FORMAT_ERROR_MESSAGE, format)));
+    }
+
+    /**
+     * Retrieves a valid serial set based on the provided serial set name.
+     *
+     * @param serialSetName The name of the serial set to retrieve
+     * @return The valid serial set
+     */
+    private SerialSet getValidSerialSet(String serialSetName) {
+        log.info("Fetching and validating serial set for export: {}", serialSetName);
+
+        Optional<SerialSet> optionalSerialSet = serialSetRepository.findByName(serialSetName);
+
+        SerialSet serialSet = optionalSerialSet.orElseThrow(() -> {
+            log.error("Serial set validation failed. Not found for export: {}", serialSetName);
+            return new CustomCsvExportException(NOT_FOUND_ERROR_MESSAGE);
+        });
+
+        if (serialSet.getGenerationStatus() != GenerationStatus.COMPLETED) {
+            log.error("Serial set validation failed. Generation is {} ({}/{}): {}", serialSet.getGenerationStatus(),
+                    serialSet.getGeneratedCount(), serialSet.getQuantity(), serialSetName);
+            throw new CustomCsvExportException(INCOMPLETE_GENERATION_ERROR_MESSAGE);
+        }
+
+        log.info("Serial set fetched and validated successfully for export: {}", serialSetName);
+        return serialSet;
+    }
+
+}
@@ -1,25 +1,64 @@
 package com.tracekey.serialnumbergenerator.service;
 
+import com.tracekey.serialnumbergenerator.entity.GenerationMode;
+import com.tracekey.serialnumbergenerator.entity.GenerationPartition;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
 import com.tracekey.serialnumbergenerator.entity.SerialNumber;
 import com.tracekey.serialnumbergenerator.entity.SerialSet;
 import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.generator.ExternalSerialDeduplicator;
+import com.tracekey.serialnumbergenerator.generator.SerialBatchGenerator;
+import com.tracekey.serialnumbergenerator.generator.SerialCodec;
+import com.tracekey.serialnumbergenerator.generator.SerialDedupSet;
+import com.tracekey.serialnumbergenerator.generator.SerialPermutation;
+import com.tracekey.serialnumbergenerator.generator.SerialReservoir;
 import com.tracekey.serialnumbergenerator.mapper.SerialSetMapper;
+import com.tracekey.serialnumbergenerator.metrics.SerialSetMetrics;
+import com.tracekey.serialnumbergenerator.dto.SerialNumberPageResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialNumberResponse;
 import com.tracekey.serialnumbergenerator.dto.SerialSetRequest;
 import com.tracekey.serialnumbergenerator.dto.SerialSetResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialSetStatusResponse;
+import com.tracekey.serialnumbergenerator.dto.SerialSetSummaryResponse;
+import com.tracekey.serialnumbergenerator.repository.GenerationPartitionRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
 import com.tracekey.serialnumbergenerator.repository.SerialNumberRepository;
 import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import com.tracekey.serialnumbergenerator.scheduling.GenerationJobScheduler;
+import com.tracekey.serialnumbergenerator.scheduling.GenerationNode;
+import com.tracekey.serialnumbergenerator.scheduling.SerialSetPurger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Implementation of the SerialSetService interface.
@@ -29,24 +68,24 @@ import java.util.stream.IntStream;
 public class SerialSetServiceImpl implements ISerialSetService {
 
     /**
-     * Character set containing numeric characters.
+     * Error message for invalid length configuration.
      */
-    private static final String NUMERIC_CHARACTERS = "0123456789";
+    private static final String LENGTH_CONFIG_ERROR_MESSAGE = "Invalid length configuration";
 
     /**
-     * Character set containing lowercase alphabetical characters.
+     * Error message for a configuration that leaves no characters to generate serials from.
      */
-    private static final String LOWERCASE_CHARACTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final String EMPTY_CHARACTER_POOL_ERROR_MESSAGE = "Configuration leaves no characters to generate serials from";
 
     /**
-     * Character set containing uppercase alphabetical characters.
+     * Error message for a quantity larger than the number of distinct serials of the configuration.
      */
-    private static final String UPPERCASE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String KEYSPACE_ERROR_MESSAGE = "Request exceeds the number of distinct serials the configuration allows";
 
     /**
-     * Error message for invalid length configuration.
+     * Error message for a random serial set too large to dedup on the heap and too long to dedup on disk.
      */
-    private static final String LENGTH_CONFIG_ERROR_MESSAGE = "Invalid length configuration";
+    private static final String DEDUP_LIMIT_ERROR_MESSAGE = "Request exceeds the number of serial numbers that can be deduplicated at this length";
 
     /**
      * Error message for a duplicate serial set name.
@@ -58,6 +97,37 @@ public class SerialSetServiceImpl implements ISerialSetService {
      */
     private static final String MAX_LIMIT_ERROR_MESSAGE = "Request exceeds the maximum limit of serial numbers";
 
+    /**
+     * Error message for an allocation larger than a reservoir.
+     */
+    private static final String ALLOCATION_LIMIT_ERROR_MESSAGE = "Request exceeds the maximum number of serial numbers allocated at once";
+
+    /**
+     * Error message for a partition whose lease another node has taken over.
+     */
+    private static final String LEASE_LOST_ERROR_MESSAGE = "Lease of generation partition lost";
+
+    /**
+     * Error message for deleting a serial set whose serial numbers are still being generated.
+     */
+    private static final String GENERATION_IN_PROGRESS_ERROR_MESSAGE = "Serial set cannot be deleted while its serial numbers are being generated";
+
+    /**
+     * Template for error message for an unsupported sort property.
+     */
+    private static final String INVALID_SORT_ERROR_MESSAGE_TEMPLATE = "Cannot sort serial sets by: %s";
+
+    /**
+     * Properties serial set summaries can be sorted by.
+     */
+    private static final Set<String> SUMMARY_SORT_PROPERTIES =
+            Set.of("name", "quantity", "createdDate", "generationStatus", "generatedCount");
+
+    /**
+     * Default sort property of serial set summaries.
+     */
+    private static final String SUMMARY_DEFAULT_SORT = "createdDate";
+
     /**
      * Template for error message when a serial set is not found.
      */
@@ -73,11 +143,61 @@ public class SerialSetServiceImpl implements ISerialSetService {
      */
     private final SerialNumberRepository serialNumberRepository;
 
+    /**
+     * JDBC repository streaming persisted serial numbers.
+     */
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    /**
+     * Writer persisting generated serial numbers.
+     */
+    private final ISerialNumberWriter serialNumberWriter;
+
+    /**
+     * Scheduler running generation jobs.
+     */
+    private final GenerationJobScheduler generationJobScheduler;
+
+    /**
+     * Verification service keeping the Bloom filters of serial sets.
+     */
+    private final ISerialVerificationService serialVerificationService;
+
+    /**
+     * Service keeping serial numbers unique across all serial sets when enabled.
+     */
+    private final IGlobalUniquenessService globalUniquenessService;
+
+    /**
+     * Purger deleting serial sets and their serial numbers.
+     */
+    private final SerialSetPurger serialSetPurger;
+
+    /**
+     * Repository for the partitions of distributed serial sets.
+     */
+    private final GenerationPartitionRepository generationPartitionRepository;
+
+    /**
+     * This node, recorded as the owner of the serial sets it generates.
+     */
+    private final GenerationNode generationNode;
+
     /**
      * Mapper for serial numbers.
      */
     private final SerialSetMapper serialSetMapper;
 
+    /**
+     * Meters of the generation hot path.
+     */
+    private final SerialSetMetrics serialSetMetrics;
+
+    /**
+     * Transaction committing each batch together with its checkpoint.
+     */
+    private final TransactionTemplate transactionTemplate;
+
 
     /**
      * Minimum allowed serial length loaded from properties.
@@ -109,18 +229,147 @@ public class SerialSetServiceImpl implements ISerialSetService {
     @Value("${serialSet.batchSize}")
     private int batchSize;
 
+    /**
+     * Maximum number of serial numbers returned per page loaded from properties.
+     */
+    @Value("${serialSet.page.maxLimit:1000}")
+    private int maxPageSize;
+
+    /**
+     * Maximum number of times a batch rejected by the unique index is retried with fresh serial numbers loaded from properties.
+     */
+    @Value("${serialSet.uniqueness.maxRetries:5}")
+    private int maxInsertRetries;
+
+    /**
+     * Number of workers generating a serial set in parallel loaded from properties; zero uses every available processor.
+     */
+    @Value("${serialSet.generation.parallelism:0}")
+    private int generationParallelism;
+
+    /**
+     * Maximum number of generated batches waiting to be persisted loaded from properties.
+     */
+    @Value("${serialSet.pipeline.queueDepth:16}")
+    private int pipelineQueueDepth;
+
+    /**
+     * Number of threads persisting generated batches loaded from properties.
+     */
+    @Value("${serialSet.pipeline.writers:2}")
+    private int pipelineWriters;
+
+    /**
+     * Number of pre-generated serial numbers kept per reservoir loaded from properties; also the largest allocation.
+     */
+    @Value("${serialSet.reservoir.capacity:10000}")
+    private int reservoirCapacity;
+
+    /**
+     * Size below which a reservoir is refilled in the background loaded from properties.
+     */
+    @Value("${serialSet.reservoir.lowWaterMark:2500}")
+    private int reservoirLowWaterMark;
+
+    /**
+     * Maximum number of alphabet and length profiles with a reservoir loaded from properties.
+     */
+    @Value("${serialSet.reservoir.maxProfiles:16}")
+    private int maxReservoirProfiles;
+
+    /**
+     * Size above which random-mode serial sets are deduplicated on disk instead of on the heap loaded from properties.
+     */
+    @Value("${serialSet.dedup.inMemoryLimit:5000000}")
+    private int inMemoryDedupLimit;
+
+    /**
+     * Number of serial numbers sorted on the heap per run file of the on-disk dedup loaded from properties.
+     */
+    @Value("${serialSet.dedup.runLength:4194304}")
+    private int dedupRunLength;
+
+    /**
+     * Directory of the run files of the on-disk dedup loaded from properties.
+     */
+    @Value("${serialSet.dedup.directory:${java.io.tmpdir}/serial-set-dedup}")
+    private String dedupDirectory;
+
+    /**
+     * Whether large serial sets are split into partitions generated by every node loaded from properties.
+     */
+    @Value("${serialSet.distributed.enabled:false}")
+    private boolean distributedEnabled;
+
+    /**
+     * Number of serial numbers per partition loaded from properties; smaller sets are generated by one node.
+     */
+    @Value("${serialSet.distributed.partitionSize:100000}")
+    private int partitionSize;
+
+    /**
+     * Duration of a partition lease in milliseconds loaded from properties, renewed with every batch.
+     */
+    @Value("${serialSet.distributed.leaseDuration:60000}")
+    private long leaseDurationMillis;
+
+    /**
+     * Dedicated pool running parallel generation workers, created on first use.
+     */
+    private ForkJoinPool generationPool;
+
+    /**
+     * Reservoirs of pre-generated serial numbers by alphabet and length profile.
+     */
+    private final Map<String, SerialReservoir> reservoirs = new ConcurrentHashMap<>();
+
+    /**
+     * Single thread refilling reservoirs, created on first use.
+     */
+    private ExecutorService reservoirRefillExecutor;
+
 
     /**
      * Constructor for injecting repositories.
      *
      * @param serialSetRepository     Repository for serial sets
      * @param serialNumberRepository  Repository for serial numbers
+     * @param serialNumberJdbcRepository JDBC repository streaming persisted serial numbers
+     * @param serialNumberWriter      Writer persisting generated serial numbers
+     * @param generationJobScheduler  Scheduler running generation jobs
+     * @param serialVerificationService Verification service keeping the Bloom filters of serial sets
+     * @param globalUniquenessService Service keeping serial numbers unique across all serial sets
+     * @param serialSetPurger         Purger deleting serial sets
+     * @param generationPartitionRepository Repository for the partitions of distributed serial sets
+     * @param generationNode          This node, owning the serial sets it generates
      * @param serialSetMapper         Mapper for serial numbers
+     * @param serialSetMetrics        Meters of the generation hot path
+     * @param transactionManager      Transaction manager committing generated batches
      */
-    public SerialSetServiceImpl(final SerialSetRepository serialSetRepository, final SerialNumberRepository serialNumberRepository,final SerialSetMapper serialSetMapper) {
+    public SerialSetServiceImpl(final SerialSetRepository serialSetRepository, final SerialNumberRepository serialNumberRepository,
+                                final SerialNumberJdbcRepository serialNumberJdbcRepository,
+                                final ISerialNumberWriter serialNumberWriter, final GenerationJobScheduler generationJobScheduler,
+                                final ISerialVerificationService serialVerificationService,
+                                final IGlobalUniquenessService globalUniquenessService,
+                                final SerialSetPurger serialSetPurger,
+                                final GenerationPartitionRepository generationPartitionRepository,
+                                final GenerationNode generationNode,
+                                final SerialSetMapper serialSetMapper,
+                                final SerialSetMetrics serialSetMetrics,
+                                final PlatformTransactionManager transactionManager) {
         this.serialSetRepository = serialSetRepository;
         this.serialNumberRepository = serialNumberRepository;
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+        this.serialNumberWriter = serialNumberWriter;
+        this.generationJobScheduler = generationJobScheduler;
+        this.serialVerificationService = serialVerificationService;
+        this.globalUniquenessService = globalUniquenessService;
+        this.serialSetPurger = serialSetPurger;
+        this.generationPartitionRepository = generationPartitionRepository;
+        this.generationNode = generationNode;
         this.serialSetMapper=serialSetMapper;
+        this.serialSetMetrics = serialSetMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -132,26 +381,246 @@ public class SerialSetServiceImpl implements ISerialSetService {
     public SerialSetResponse createSerialSet(final SerialSetRequest serialSetRequest) {
         log.info("Creating serial set: {}", serialSetRequest.getName());
         SerialSet serialSet = serialSetMapper.mapRequestDtoToEntity(serialSetRequest);
+        final boolean partitioned = distributedEnabled && serialSet.getQuantity() > partitionSize;
+        if (partitioned) {
+            serialSet.setGenerationMode(GenerationMode.PERMUTATION);
+        }
         validateSerialSetConfiguration(serialSet);
         validateSerialSet(serialSet);
         saveSerialSet(serialSet);
-        generateSerialNumbersAsync(serialSet);
+        if (partitioned) {
+            createPartitions(serialSet);
+            return serialSetMapper.mapEntityToResponseDto(serialSet);
+        }
+        try {
+            generateSerialNumbersAsync(serialSet);
+        } catch (SerialSetException e) {
+            serialSetRepository.delete(serialSet);
+            throw e;
+        }
         log.info("Serial set created successfully: {}", serialSet.getName());
         return serialSetMapper.mapEntityToResponseDto(serialSet);}
 
     /**
-     * Retrieves all serial sets.
+     * Splits a distributed serial set into partitions of consecutive permutation counters, to be leased by any node.
      *
-     * @return List of all serial sets
+     * @param serialSet The saved permutation-mode serial set
+     */
+    private void createPartitions(final SerialSet serialSet) {
+        final List<GenerationPartition> partitions = new ArrayList<>();
+        for (int first = 0; first < serialSet.getQuantity(); first += partitionSize) {
+            partitions.add(new GenerationPartition()
+                    .setSerialSetId(serialSet.getId())
+                    .setPartitionIndex(partitions.size())
+                    .setFirstCounter(first)
+                    .setNextCounter(first)
+                    .setQuantity(Math.min(partitionSize, serialSet.getQuantity() - first)));
+        }
+        generationPartitionRepository.saveAll(partitions);
+        reservePermutationCounters(serialSet, serialSet.getQuantity());
+        log.info("Serial set {} split into {} partitions for distributed generation", serialSet.getName(), partitions.size());
+    }
+
+    /**
+     * Generates the serial numbers of a leased partition of a distributed serial set, batch by batch.
+     * Each batch commits together with the partition checkpoint, which renews the lease and fails once another node
+     * has taken the lease over, so a stalled node that wakes up can never persist counters its successor owns.
+     *
+     * @param partition The partition, read after the given node leased it
+     * @param owner     The node holding the lease
+     * @throws SerialSetException if the serial set is gone or the lease is lost
      */
     @Override
-    public List<SerialSetResponse> getAllSerialSets() {
+    public void generatePartition(final GenerationPartition partition, final String owner) {
+        final SerialSet serialSet = serialSetRepository.findById(partition.getSerialSetId()).orElseThrow(() ->
+                new SerialSetException(String.format(NOT_FOUND_ERROR_MESSAGE_TEMPLATE, partition.getSerialSetId())));
+        final long endCounter = partition.getFirstCounter() + partition.getQuantity();
+        log.info("Generating partition {} of serial set {} from counter {} to {}", partition.getPartitionIndex(),
+                serialSet.getName(), partition.getNextCounter(), endCounter);
+        if (serialSet.getGenerationStatus() == GenerationStatus.PENDING) {
+            updateGenerationStatus(serialSet, GenerationStatus.RUNNING);
+        }
+        globalUniquenessService.awaitWarmUp();
+
+        final SerialPermutation permutation =
+                new SerialPermutation(getAlphabet(serialSet), serialSet.getSerialLength(), serialSet.getPermutationKey());
+        final int writeBatchSize = Math.max(batchSize, serialNumberWriter.getMinimumBatchSize(serialSet));
+        final long[] nextCounter = {partition.getNextCounter()};
+        generatePermutedRange(serialSet, permutation, nextCounter[0], (int) (endCounter - nextCounter[0]), writeBatchSize,
+                batch -> {
+                    nextCounter[0] += batch.size();
+                    writeBatch(serialSet, batch, () -> {
+                        final LocalDateTime now = LocalDateTime.now();
+                        if (generationPartitionRepository.checkpoint(partition.getId(), owner, nextCounter[0],
+                                now.plus(leaseDurationMillis, ChronoUnit.MILLIS), now) == 0) {
+                            throw new SerialSetException(LEASE_LOST_ERROR_MESSAGE);
+                        }
+                    });
+                });
+
+        if (generationPartitionRepository.complete(partition.getId(), owner, LocalDateTime.now()) == 0) {
+            throw new SerialSetException(LEASE_LOST_ERROR_MESSAGE);
+        }
+        log.info("Generated partition {} of serial set {}", partition.getPartitionIndex(), serialSet.getName());
+        if (generationPartitionRepository.countBySerialSetIdAndCompletedFalse(serialSet.getId()) == 0) {
+            updateGenerationStatus(serialSet, GenerationStatus.COMPLETED);
+            log.info("Generated and saved all partitions of serial set: {}", serialSet.getName());
+        }
+    }
+
+    /**
+     * Creates a new serial set from pre-generated serial numbers, without waiting for a generation job.
+     * Serial numbers come from the reservoir of the alphabet and length of the set; whatever the reservoir lacks is
+     * generated on the spot, and the reservoir is refilled in the background once it falls below its low-water mark.
+     *
+     * @param serialSetRequest The serial set to create; always generated in random mode
+     * @return The completed serial set with its serial numbers
+     * @throws SerialSetException if the quantity exceeds the reservoir capacity
+     */
+    @Override
+    public SerialSetResponse allocateSerialSet(final SerialSetRequest serialSetRequest) {
+        log.info("Allocating serial set: {}", serialSetRequest.getName());
+        final SerialSet serialSet = serialSetMapper.mapRequestDtoToEntity(serialSetRequest)
+                .setGenerationMode(GenerationMode.RANDOM);
+        if (serialSet.getQuantity() > reservoirCapacity) {
+            throw new SerialSetException(ALLOCATION_LIMIT_ERROR_MESSAGE);
+        }
+        validateSerialSetConfiguration(serialSet);
+        validateSerialSet(serialSet);
+        saveSerialSet(serialSet.setGenerationStatus(GenerationStatus.RUNNING));
+
+        final Alphabet alphabet = getAlphabet(serialSet);
+        final List<String> serials = takeFromReservoir(serialSet, alphabet, serialSet.getQuantity());
+        serialVerificationService.register(serialSet);
+        try {
+            for (int from = 0; from < serials.size(); from += batchSize) {
+                writeBatch(serialSet, serials.subList(from, Math.min(serials.size(), from + batchSize)));
+            }
+        } catch (RuntimeException e) {
+            updateGenerationStatus(serialSet, GenerationStatus.FAILED);
+            throw e;
+        }
+        serialSet.setGeneratedCount(serials.size());
+        updateGenerationStatus(serialSet, GenerationStatus.COMPLETED);
+        serialVerificationService.complete(serialSet);
+
+        final SerialSetResponse response = serialSetMapper.mapEntityToMetadataResponseDto(serialSet);
+        response.setSerialNumberResponseList(serialNumberJdbcRepository.findPage(serialSet.getId(), 0, serials.size()).stream()
+                .map(serialNumber -> new SerialNumber(serialNumber.getId(), serialNumber.getValue(),
+                        serialNumber.getCreatedDate(), null, serialSet))
+                .collect(Collectors.toList()));
+        log.info("Serial set allocated successfully: {}", serialSet.getName());
+        return response;
+    }
+
+    /**
+     * Takes distinct serial numbers from the reservoir of a serial set profile, generating any shortfall on the spot.
+     *
+     * @param serialSet The serial set the serial numbers are for
+     * @param alphabet  The alphabet of the serial set
+     * @param count     The number of serial numbers wanted
+     * @return The serial numbers
+     */
+    private List<String> takeFromReservoir(final SerialSet serialSet, final Alphabet alphabet, final int count) {
+        final SerialReservoir reservoir = getReservoir(alphabet, serialSet.getSerialLength());
+        final List<String> serials = reservoir == null ? new ArrayList<>(count) : reservoir.take(count);
+        if (serials.size() < count) {
+            log.debug("Reservoir lacks {} serial numbers for serial set {}, generating them now",
+                    count - serials.size(), serialSet.getName());
+            final Set<String> uniqueSerials = new HashSet<>(serials);
+            while (serials.size() < count) {
+                for (String serial : generateSerialBatch(serialSet, alphabet, count - serials.size())) {
+                    if (uniqueSerials.add(serial) && globalUniquenessService.claim(serial)) {
+                        serials.add(serial);
+                    }
+                }
+            }
+        }
+        if (reservoir != null && reservoir.startRefill()) {
+            scheduleRefill(reservoir, alphabet, serialSet.getSerialLength());
+        }
+        return serials;
+    }
+
+    /**
+     * Returns the reservoir of an alphabet and length profile, creating it on first use.
+     *
+     * @param alphabet     The alphabet of the profile
+     * @param serialLength The serial length of the profile
+     * @return The reservoir, or null when the maximum number of profiles is reached
+     */
+    private SerialReservoir getReservoir(final Alphabet alphabet, final int serialLength) {
+        final String profile = alphabet + "/" + serialLength;
+        final SerialReservoir reservoir = reservoirs.get(profile);
+        if (reservoir != null || reservoirs.size() >= maxReservoirProfiles) {
+            return reservoir;
+        }
+        return reservoirs.computeIfAbsent(profile, key -> new SerialReservoir(reservoirCapacity, reservoirLowWaterMark));
+    }
+
+    /**
+     * Refills a reservoir up to its capacity in the background, through the regular batch generation path.
+     *
+     * @param reservoir    The reservoir, whose refill the caller has claimed
+     * @param alphabet     The alphabet of the reservoir profile
+     * @param serialLength The serial length of the reservoir profile
+     */
+    private void scheduleRefill(final SerialReservoir reservoir, final Alphabet alphabet, final int serialLength) {
+        final SerialSet profile = new SerialSet().setSerialLength(serialLength);
+        getReservoirRefillExecutor().execute(() -> {
+            try {
+                int missing;
+                while ((missing = reservoir.getCapacity() - reservoir.size()) > 0) {
+                    final List<String> claimed = new ArrayList<>(missing);
+                    for (String serial : generateSerialBatch(profile, alphabet, missing)) {
+                        if (globalUniquenessService.claim(serial)) {
+                            claimed.add(serial);
+                        }
+                    }
+                    reservoir.offer(claimed);
+                }
+                log.debug("Refilled reservoir of {} serial numbers of length {}", reservoir.size(), serialLength);
+            } catch (RuntimeException e) {
+                log.error("Error refilling reservoir of serial numbers of length {}", serialLength, e);
+            } finally {
+                reservoir.refillDone();
+            }
+        });
+    }
+
+    /**
+     * Retrieves summaries of all serial sets, oldest first.
+     *
+     * @return List of all serial set summaries
+     */
+    @Override
+    public List<SerialSetSummaryResponse> getAllSerialSets() {
+        return getAllSerialSets(null, 0, SUMMARY_DEFAULT_SORT, Sort.Direction.ASC);
+    }
+
+    /**
+     * Retrieves summaries of serial sets with a single query; serial numbers are never loaded.
+     *
+     * @param page      The zero-based page to return, or null for every serial set
+     * @param size      The page size, capped by the configured maximum page size
+     * @param sort      The summary property to sort by
+     * @param direction The sort direction
+     * @return List of serial set summaries
+     */
+    @Override
+    public List<SerialSetSummaryResponse> getAllSerialSets(final Integer page, final int size, final String sort,
+                                                           final Sort.Direction direction) {
         log.info("Fetching all serial sets");
-        List<SerialSet> serialSets = serialSetRepository.findAll();
+        if (!SUMMARY_SORT_PROPERTIES.contains(sort)) {
+            throw new SerialSetException(String.format(INVALID_SORT_ERROR_MESSAGE_TEMPLATE, sort));
+        }
+        final Sort order = Sort.by(direction, sort);
+        final List<SerialSetSummaryResponse> serialSets = page == null
+                ? serialSetRepository.findSummaries(order)
+                : serialSetRepository.findSummaries(PageRequest.of(Math.max(0, page),
+                        Math.max(1, Math.min(size, maxPageSize)), order));
         log.info("Fetched {} serial sets", serialSets.size());
-        return serialSets.stream()
-                .map(serialSetMapper::mapEntityToResponseDto)
-                .collect(Collectors.toList());
+        return serialSets;
     }
 
     /**
@@ -162,43 +631,102 @@ public class SerialSetServiceImpl implements ISerialSetService {
      */
     @Override
     public SerialSetResponse getSerialSetByName(final String name) {
+        return getSerialSetByName(name, false);
+    }
+
+    /**
+     * Retrieves a serial set by its name, optionally without its serial numbers.
+     *
+     * @param name         The name of the serial set to retrieve
+     * @param metadataOnly Whether to leave the serial numbers out, see {@link #getSerialNumbers(String, long, int)}
+     * @return The retrieved serial set
+     */
+    @Override
+    public SerialSetResponse getSerialSetByName(final String name, final boolean metadataOnly) {
         log.info("Fetching serial set: {}", name);
         return serialSetRepository.findByName(name)
-                .map(serialSetMapper::mapEntityToResponseDto).orElseThrow(() ->
+                .map(metadataOnly ? serialSetMapper::mapEntityToMetadataResponseDto : serialSetMapper::mapEntityToResponseDto)
+                .orElseThrow(() ->
                         new SerialSetException(String.format(NOT_FOUND_ERROR_MESSAGE_TEMPLATE, name))
                 );
     }
 
+    /**
+     * Retrieves a page of the serial numbers of a serial set, ordered by ID.
+     *
+     * @param name  The name of the serial set
+     * @param after The last ID of the previous page, zero for the first page
+     * @param limit The requested page size, capped by the configured maximum
+     * @return The page, with the ID to continue after when more serial numbers may follow
+     */
+    @Override
+    public SerialNumberPageResponse getSerialNumbers(final String name, final long after, final int limit) {
+        final SerialSet serialSet = serialSetRepository.findByName(name).orElseThrow(() ->
+                new SerialSetException(String.format(NOT_FOUND_ERROR_MESSAGE_TEMPLATE, name)));
+        final int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        final List<SerialNumberResponse> serialNumbers = serialNumberJdbcRepository.findPage(serialSet.getId(), after, pageSize);
+        log.debug("Fetched {} serial numbers of serial set {} after ID {}", serialNumbers.size(), name, after);
 
+        final SerialNumberPageResponse page = new SerialNumberPageResponse();
+        page.setSerialNumbers(serialNumbers);
+        page.setNextAfter(serialNumbers.size() < pageSize ? null : serialNumbers.get(serialNumbers.size() - 1).getId());
+        return page;
+    }
+
+
+    /**
+     * Retrieves the generation progress of a serial set by its name, without loading its serial numbers.
+     *
+     * @param name The name of the serial set
+     * @return The generation status and count of the serial set
+     */
+    @Override
+    public SerialSetStatusResponse getSerialSetStatus(final String name) {
+        log.debug("Fetching generation status of serial set: {}", name);
+        return serialSetRepository.findByName(name)
+                .map(serialSetMapper::mapEntityToStatusResponseDto).orElseThrow(() ->
+                        new SerialSetException(String.format(NOT_FOUND_ERROR_MESSAGE_TEMPLATE, name))
+                );
+    }
 
     /**
      * Deletes a serial set by its name.
+     * Large serial sets are marked DELETING and purged in the background.
      *
      * @param name The Name of the serial set to delete
-     *
+     * @throws SerialSetException if the serial set is PENDING or RUNNING, since its job would keep inserting rows
      */
     @Override
     public void deleteSerialSetByName(final String name) {
         log.info("Deleting serial set by: {}", name);
         serialSetRepository.findByName(name)
+                .filter(serialSet -> serialSet.getGenerationStatus() != GenerationStatus.DELETING)
                 .ifPresent(serialSet -> {
-                    serialNumberRepository.deleteAll(serialSet.getSerialNumbers());
-                    serialSetRepository.delete(serialSet);
-                    log.info("Deleted serial set successfully: {}", name);
+                    if (serialSet.getGenerationStatus() == GenerationStatus.PENDING
+                            || serialSet.getGenerationStatus() == GenerationStatus.RUNNING) {
+                        log.error("Serial set deletion rejected. Generation is {}: {}", serialSet.getGenerationStatus(), name);
+                        throw new SerialSetException(GENERATION_IN_PROGRESS_ERROR_MESSAGE);
+                    }
+                    if (serialSetPurger.delete(serialSet)) {
+                        log.info("Deleted serial set successfully: {}", name);
+                    } else {
+                        log.info("Serial set marked for deletion, purging in the background: {}", name);
+                    }
                 });
     }
 
     /**
-     * Asynchronously generates serial numbers for a serial set.
+     * Asynchronously generates serial numbers for a serial set on the generation job scheduler.
+     * Sets with fewer serial numbers left get a higher priority so they are not stuck behind large ones.
      *
      * @param serialSet The serial set for which to generate serial numbers
      * @return CompletableFuture indicating completion of the generation process
+     * @throws SerialSetException if the generation queue is full
      */
-    @Async
     @Override
     public CompletableFuture<Void> generateSerialNumbersAsync(final SerialSet serialSet) {
         log.info("Generating serial numbers asynchronously for serial set started: {}", serialSet.getName());
-         return CompletableFuture.runAsync(() -> generateSerialNumbers(serialSet))
+         return generationJobScheduler.submit(serialSet.getName(), serialSet.getQuantity() - serialSet.getGeneratedCount(), () -> generateSerialNumbers(serialSet))
                 .whenComplete((result, ex) -> {
                     if (ex == null) {
                         log.info("Serial numbers generated successfully for serial set: {}", serialSet.getName());
@@ -217,18 +745,10 @@ public class SerialSetServiceImpl implements ISerialSetService {
     @Override
     public String getCharacterPool(final SerialSet serialSet) {
         log.debug("Getting character pool for serial set: {}", serialSet.getName());
-        final StringBuilder characters = new StringBuilder();
-        if (serialSet.isNumber()) {
-            characters.append(NUMERIC_CHARACTERS);
-        }
-        if (serialSet.isLowerCase()) {
-            characters.append(LOWERCASE_CHARACTERS);
-        }
-        if (serialSet.isUpperCase()) {
-            characters.append(UPPERCASE_CHARACTERS);
-        }
+        final String characters = Alphabet.of(serialSet.isNumber(), serialSet.isLowerCase(), serialSet.isUpperCase(), null)
+                .toString();
         log.debug("Character pool for serial set {}: {}", serialSet.getName(), characters);
-        return characters.toString();
+        return characters;
     }
 
     /**
@@ -242,48 +762,446 @@ public class SerialSetServiceImpl implements ISerialSetService {
     public String removeExclusions(String input, final String exclusions) {
         log.debug("Removing exclusions for input: {}, exclusions: {}", input, exclusions);
         if (input != null && exclusions != null) {
-            for (char exclusion : exclusions.toCharArray()) {
-                input = input.replace(String.valueOf(exclusion), "");
+            final StringBuilder result = new StringBuilder(input.length());
+            for (int i = 0; i < input.length(); i++) {
+                if (exclusions.indexOf(input.charAt(i)) < 0) {
+                    result.append(input.charAt(i));
+                }
             }
+            input = result.toString();
             log.debug("Result after removing exclusions: {}", input);
         }
         return input;
     }
 
+    /**
+     * Gets the compiled alphabet of the serial set configuration, exclusions removed.
+     * Identical configurations share one cached instance.
+     *
+     * @param serialSet The serial set for which to get the alphabet
+     * @return The compiled alphabet
+     */
+    @Override
+    public Alphabet getAlphabet(final SerialSet serialSet) {
+        return Alphabet.of(serialSet.isNumber(), serialSet.isLowerCase(), serialSet.isUpperCase(),
+                serialSet.getExclusions());
+    }
+
 
     /**
      * Generates and saves serial numbers for a serial set.
+     * Generation workers running on the generation pool push batches into a bounded queue drained by writer threads,
+     * so generation and persistence overlap. In random mode workers share one packed dedup set, so the result is the same unique set the sequential path
+     * produces; in permutation mode each worker maps its own counter range and no dedup is needed.
+     * Every batch is committed together with the generated count of the serial set, so a set interrupted by a restart
+     * resumes from its last committed batch: random mode rebuilds its dedup set by streaming the persisted serials,
+     * permutation mode continues on counters no earlier run has used.
+     * In global uniqueness mode every candidate is also claimed in the global filter, see {@link IGlobalUniquenessService}.
      *
      * @param serialSet The serial set for which to generate and save serial numbers
      */
     @Override
     public void generateSerialNumbers(final SerialSet serialSet) {
-        log.info("Generating and saving serial numbers for serial set: {}", serialSet.getName());
-        int remainingSerials = serialSet.getQuantity();
-        final Set<String> uniqueSerials = new HashSet<>();
+        final int remaining = serialSet.getQuantity() - serialSet.getGeneratedCount();
+        final boolean resumed = serialSet.getGeneratedCount() > 0;
+        if (resumed) {
+            log.info("Resuming serial set {} after {} persisted serial numbers", serialSet.getName(), serialSet.getGeneratedCount());
+        } else {
+            log.info("Generating and saving serial numbers for serial set: {}", serialSet.getName());
+        }
+        final Alphabet alphabet = getAlphabet(serialSet);
+        final int writeBatchSize = Math.max(batchSize, serialNumberWriter.getMinimumBatchSize(serialSet));
+        final int workers = Math.max(1, Math.min(getGenerationParallelism(), (remaining + writeBatchSize - 1) / writeBatchSize));
 
-        while (remainingSerials > 0) {
-            final int currentBatchSize = Math.min(remainingSerials, batchSize);
-            String characters = getCharacterPool(serialSet);
-            final String cleanCharacters = removeExclusions(characters, serialSet.getExclusions());
+        updateGenerationStatus(serialSet, GenerationStatus.RUNNING);
+        if (!resumed) {
+            serialVerificationService.register(serialSet);
+        }
+        try {
+            globalUniquenessService.awaitWarmUp();
+            final List<Consumer<Consumer<List<String>>>> producers =
+                    createProducers(serialSet, alphabet, remaining, workers, writeBatchSize);
+            log.debug("Generating serial set {} with {} producers and {} writers", serialSet.getName(), workers, pipelineWriters);
+            new GenerationPipeline(serialSet.getName(), pipelineQueueDepth, pipelineWriters,
+                    batch -> writeBatch(serialSet, batch))
+                    .run(getGenerationPool(), producers);
+        } catch (RuntimeException e) {
+            updateGenerationStatus(serialSet, GenerationStatus.FAILED);
+            throw e;
+        }
+        updateGenerationStatus(serialSet, GenerationStatus.COMPLETED);
+        if (!resumed) {
+            serialVerificationService.complete(serialSet);
+        }
+        log.info("Generated and saved all serial numbers for serial set: {}", serialSet.getName());
+    }
 
-            final List<SerialNumber> generatedSerials = IntStream.range(0, currentBatchSize)
-                    .mapToObj(i -> {
-                        String generatedSerial;
-                        do {
-                            generatedSerial = generateSingleSerial(serialSet, cleanCharacters);
-                        } while (!uniqueSerials.add(generatedSerial));
+    /**
+     * Splits the remaining serial numbers of a serial set between generation workers.
+     *
+     * @param serialSet      The serial set being generated
+     * @param alphabet       The alphabet the serial numbers are made of
+     * @param remaining      The number of serial numbers still to generate
+     * @param workers        The number of generation workers
+     * @param writeBatchSize The number of serial numbers persisted at once
+     * @return One producer per worker
+     */
+    private List<Consumer<Consumer<List<String>>>> createProducers(final SerialSet serialSet, final Alphabet alphabet,
+                                                                    final int remaining, final int workers,
+                                                                    final int writeBatchSize) {
+        final List<Consumer<Consumer<List<String>>>> producers = new ArrayList<>(workers);
+        if (serialSet.getGenerationMode() == GenerationMode.PERMUTATION) {
+            final SerialPermutation permutation =
+                    new SerialPermutation(alphabet, serialSet.getSerialLength(), serialSet.getPermutationKey());
+            final long firstCounter = serialSet.getPermutationOffset();
+            if (firstCounter + remaining <= permutation.getCapacity()) {
+                reservePermutationCounters(serialSet, firstCounter + remaining);
+                long counter = firstCounter;
+                for (int worker = 0; worker < workers; worker++) {
+                    final int share = remaining / workers + (worker < remaining % workers ? 1 : 0);
+                    final long start = counter;
+                    producers.add(sink -> generatePermutedRange(serialSet, permutation, start, share, writeBatchSize, sink));
+                    counter += share;
+                }
+                return producers;
+            }
+            log.warn("Permutation counters of serial set {} are exhausted, resuming with random serials", serialSet.getName());
+        }
+
+        final SerialCodec codec = new SerialCodec(alphabet, serialSet.getSerialLength());
+        if (serialSet.getQuantity() > inMemoryDedupLimit && codec.isPackable()) {
+            producers.add(sink -> generateDeduplicatedOnDisk(serialSet, alphabet, codec, remaining, writeBatchSize, sink));
+            return producers;
+        }
+
+        final SerialDedupSet uniqueSerials = SerialDedupSet.create(alphabet, serialSet.getSerialLength(), serialSet.getQuantity());
+        if (serialSet.getGeneratedCount() > 0) {
+            serialNumberJdbcRepository.forEachValue(serialSet.getId(), uniqueSerials::add);
+            log.info("Rebuilt dedup set of serial set {} from {} persisted serial numbers", serialSet.getName(), uniqueSerials.size());
+        }
+        for (int worker = 0; worker < workers; worker++) {
+            final int share = remaining / workers + (worker < remaining % workers ? 1 : 0);
+            producers.add(sink -> generateSerialRange(serialSet, alphabet, share, uniqueSerials, writeBatchSize, sink));
+        }
+        return producers;
+    }
+
+    /**
+     * Records that the permutation counters of a serial set below the given offset are taken, before any of them
+     * is used, so a resumed run never maps a counter twice.
+     *
+     * @param serialSet The permutation-mode serial set
+     * @param offset    The first counter left for later runs
+     */
+    private void reservePermutationCounters(final SerialSet serialSet, final long offset) {
+        serialSet.setPermutationOffset(offset);
+        serialSetRepository.updatePermutationOffset(serialSet.getId(), offset);
+    }
+
+    /**
+     * Persists a batch of generated serial numbers and adds it to the generated count of the serial set
+     * in one transaction, so the count always matches the persisted serial numbers.
+     * In global uniqueness mode a batch rejected by the unique index is retried with its conflicting serial numbers
+     * replaced, instead of failing the whole generation.
+     *
+     * @param serialSet The serial set the serial numbers belong to
+     * @param batch     The serial numbers to persist
+     */
+    private void writeBatch(final SerialSet serialSet, final List<String> batch) {
+        writeBatch(serialSet, batch, () -> { });
+    }
 
-                       return new SerialNumber(generatedSerial, serialSet);
-                    })
-                    .collect(Collectors.toList());
+    /**
+     * Persists a batch of generated serial numbers like {@link #writeBatch(SerialSet, List)}, running a checkpoint
+     * in the same transaction.
+     *
+     * @param serialSet  The serial set the serial numbers belong to
+     * @param batch      The serial numbers to persist
+     * @param checkpoint Action committed with the batch; throwing rolls the batch back
+     */
+    private void writeBatch(final SerialSet serialSet, final List<String> batch, final Runnable checkpoint) {
+        List<String> pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            // Filters first: a serial committed but not yet in the filter would be rejected by verification.
+            serialVerificationService.record(serialSet, pending);
+            try {
+                final List<String> serials = pending;
+                final long start = System.nanoTime();
+                transactionTemplate.executeWithoutResult(status -> {
+                    serialNumberWriter.write(serialSet, serials);
+                    serialSetRepository.incrementGeneratedCount(serialSet.getId(), serials.size());
+                    checkpoint.run();
+                });
+                final long elapsed = System.nanoTime() - start;
+                serialSetMetrics.recordBatchWritten(serialSet, serials.size(), elapsed);
+                log.debug("Saved batch of {} serial numbers of serial set {} in {} ms",
+                        serials.size(), serialSet.getName(), elapsed / 1_000_000);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (!globalUniquenessService.isEnabled() || attempt > maxInsertRetries) {
+                    throw e;
+                }
+                serialSetMetrics.recordBatchRetry(serialSet);
+                pending = replaceConflicts(serialSet, pending);
+                log.warn("Retrying batch of serial set {} after a uniqueness conflict (attempt {})", serialSet.getName(), attempt);
+            }
+        }
+    }
 
-            serialNumberRepository.saveAll(generatedSerials);
+    /**
+     * Replaces the serial numbers of a batch that another serial set already holds with fresh candidates.
+     *
+     * @param serialSet The serial set the serial numbers belong to
+     * @param batch     The batch rejected by the unique index
+     * @return The batch with its conflicting serial numbers replaced
+     */
+    private List<String> replaceConflicts(final SerialSet serialSet, final List<String> batch) {
+        final Set<String> existing = serialNumberJdbcRepository.findExistingValues(batch);
+        final Set<String> batchSerials = new HashSet<>(batch);
+        final Alphabet alphabet = getAlphabet(serialSet);
+        final List<String> replaced = new ArrayList<>(batch.size());
+        for (String serial : batch) {
+            if (!existing.contains(serial)) {
+                replaced.add(serial);
+                continue;
+            }
+            String replacement;
+            do {
+                replacement = drawUnclaimedSerial(serialSet, alphabet);
+            } while (!batchSerials.add(replacement));
+            replaced.add(replacement);
+        }
+        log.debug("Replaced {} conflicting serial numbers of serial set {}", existing.size(), serialSet.getName());
+        return replaced;
+    }
+
+    /**
+     * Draws random serial numbers until one is claimed in the global uniqueness filter.
+     *
+     * @param serialSet The serial set for which to generate the serial number
+     * @param alphabet  The alphabet the serial number is made of
+     * @return The claimed serial number
+     */
+    private String drawUnclaimedSerial(final SerialSet serialSet, final Alphabet alphabet) {
+        String serial;
+        do {
+            serial = generateSerialBatch(serialSet, alphabet, 1).get(0);
+        } while (!globalUniquenessService.claim(serial));
+        return serial;
+    }
+
+    /**
+     * Records the generation status of a serial set, both in the database and on the given instance.
+     *
+     * @param serialSet The serial set
+     * @param status    The new generation status
+     */
+    private void updateGenerationStatus(final SerialSet serialSet, final GenerationStatus status) {
+        serialSet.setGenerationStatus(status);
+        serialSetRepository.updateGenerationStatus(serialSet.getId(), status);
+        log.debug("Serial set {} is now {}", serialSet.getName(), status);
+    }
+
+    /**
+     * Generates a share of the serial numbers of a serial set, batch by batch.
+     *
+     * @param serialSet     The serial set for which to generate serial numbers
+     * @param alphabet      The alphabet the serial numbers are made of
+     * @param quantity      The number of serial numbers to generate
+     * @param uniqueSerials The serials generated so far for the serial set, shared by all workers
+     * @param writeBatchSize The number of serial numbers persisted at once
+     * @param sink          The consumer of the generated batches
+     */
+    private void generateSerialRange(final SerialSet serialSet, final Alphabet alphabet, final int quantity,
+                                     final SerialDedupSet uniqueSerials, final int writeBatchSize,
+                                     final Consumer<List<String>> sink) {
+        int remainingSerials = quantity;
+
+        while (remainingSerials > 0) {
+            final int currentBatchSize = Math.min(remainingSerials, writeBatchSize);
+            final long start = System.nanoTime();
+
+            final List<String> generatedSerials = new ArrayList<>(currentBatchSize);
+            int collisions = 0;
+            while (generatedSerials.size() < currentBatchSize) {
+                final int missingSerials = currentBatchSize - generatedSerials.size();
+                for (String generatedSerial : generateSerialBatch(serialSet, alphabet, missingSerials)) {
+                    if (uniqueSerials.add(generatedSerial) && globalUniquenessService.claim(generatedSerial)) {
+                        generatedSerials.add(generatedSerial);
+                    } else {
+                        collisions++;
+                    }
+                }
+            }
+
+            final long elapsed = System.nanoTime() - start;
+            serialSetMetrics.recordBatchGenerated(serialSet, collisions, elapsed);
+            sink.accept(generatedSerials);
 
             remainingSerials -= currentBatchSize;
+            log.debug("Generated batch of {} serial numbers for serial set: {} in {} µs ({} collisions, {} remaining)",
+                    currentBatchSize, serialSet.getName(), elapsed / 1_000, collisions, remainingSerials);
+        }
+    }
+
+    /**
+     * Generates the serial numbers of a random-mode serial set too large to dedup on the heap, batch by batch.
+     * Candidates are spilled into sorted run files and merged on disk, so the heap only holds one run; a round
+     * draws the missing serial numbers plus the expected collisions, and rounds repeat until none are missing.
+     * Each round passes its serial numbers on in random order, so persisted IDs do not follow serial values.
+     *
+     * @param serialSet      The serial set for which to generate serial numbers
+     * @param alphabet       The alphabet the serial numbers are made of
+     * @param codec          The codec packing a serial number into one or two words
+     * @param quantity       The number of serial numbers to generate
+     * @param writeBatchSize The number of serial numbers persisted at once
+     * @param sink           The consumer of the generated batches
+     */
+    private void generateDeduplicatedOnDisk(final SerialSet serialSet, final Alphabet alphabet, final SerialCodec codec,
+                                            final int quantity, final int writeBatchSize,
+                                            final Consumer<List<String>> sink) {
+        final int serialLength = serialSet.getSerialLength();
+        final double keyspace = Math.pow(alphabet.size(), serialLength);
+        final Random random = ThreadLocalRandom.current();
+        final long start = System.nanoTime();
+        try (ExternalSerialDeduplicator dedup =
+                     new ExternalSerialDeduplicator(Paths.get(dedupDirectory), dedupRunLength, codec.getWidth())) {
+            long taken = 0;
+            if (serialSet.getGeneratedCount() > 0) {
+                serialNumberJdbcRepository.forEachValue(serialSet.getId(), serial ->
+                        dedup.addExcluded(codec.encodeFirst(serial), codec.encodeSecond(serial)));
+                taken = serialSet.getGeneratedCount();
+            }
+
+            final List<List<String>> batch = new ArrayList<>(List.of(new ArrayList<>(writeBatchSize)));
+            long missing = quantity;
+            while (missing > 0) {
+                final double collisions = missing * (missing / 2.0 + taken) / keyspace;
+                final long candidates = missing + (long) Math.ceil(collisions * 1.1) + 16;
+                for (long drawn = 0; drawn < candidates; ) {
+                    final int count = (int) Math.min(candidates - drawn, 4096);
+                    final char[] chars = SerialBatchGenerator.current().fill(alphabet, serialLength, count);
+                    for (int i = 0; i < count; i++) {
+                        dedup.addCandidate(codec.encodeFirst(chars, i * serialLength), codec.encodeSecond(chars, i * serialLength));
+                    }
+                    drawn += count;
+                }
+                final long drained = dedup.drain(missing,
+                        (first, second) -> !globalUniquenessService.isEnabled()
+                                || globalUniquenessService.claim(codec.decode(first, second)),
+                        (first, second) -> {
+                            batch.get(0).add(codec.decode(first, second));
+                            if (batch.get(0).size() == writeBatchSize) {
+                                sink.accept(batch.set(0, new ArrayList<>(writeBatchSize)));
+                            }
+                        }, random);
+                missing -= drained;
+                taken += drained;
+                log.debug("On-disk dedup round of serial set {} drew {} candidates, {} serial numbers missing",
+                        serialSet.getName(), candidates, missing);
+            }
+            if (!batch.get(0).isEmpty()) {
+                sink.accept(batch.get(0));
+            }
+            log.info("Generated {} serial numbers of serial set {} with on-disk dedup in {} ms ({} bytes spilled)",
+                    quantity, serialSet.getName(), (System.nanoTime() - start) / 1_000_000, dedup.getSpilledBytes());
+        } catch (IOException e) {
+            throw new SerialSetException("Could not create the dedup run files: " + e.getMessage());
         }
-        uniqueSerials.clear();
-        log.info("Generated and saved all serial numbers for serial set: {}", serialSet.getName());
+    }
+
+    /**
+     * Generates the serial numbers of a counter range of a permutation-mode serial set, batch by batch.
+     *
+     * @param serialSet    The serial set for which to generate serial numbers
+     * @param permutation  The permutation of the serial set
+     * @param firstCounter The first counter of the range
+     * @param quantity     The number of serial numbers to generate
+     * @param writeBatchSize The number of serial numbers persisted at once
+     * @param sink         The consumer of the generated batches
+     */
+    private void generatePermutedRange(final SerialSet serialSet, final SerialPermutation permutation,
+                                       final long firstCounter, final int quantity, final int writeBatchSize,
+                                       final Consumer<List<String>> sink) {
+        final Alphabet alphabet = getAlphabet(serialSet);
+        final long endCounter = firstCounter + quantity;
+        for (long counter = firstCounter; counter < endCounter; ) {
+            final int currentBatchSize = (int) Math.min(endCounter - counter, writeBatchSize);
+            final long start = System.nanoTime();
+            final List<String> generatedSerials = new ArrayList<>(currentBatchSize);
+            for (int i = 0; i < currentBatchSize; i++) {
+                final String serial = permutation.serialAt(counter++);
+                // Held by another serial set: a random serial takes its place, the unique index catches the rare clash.
+                generatedSerials.add(globalUniquenessService.claim(serial) ? serial : drawUnclaimedSerial(serialSet, alphabet));
+            }
+
+            final long elapsed = System.nanoTime() - start;
+            serialSetMetrics.recordBatchGenerated(serialSet, 0, elapsed);
+            sink.accept(generatedSerials);
+
+            log.debug("Generated batch of {} permuted serial numbers for serial set: {} in {} µs ({} remaining)",
+                    currentBatchSize, serialSet.getName(), elapsed / 1_000, endCounter - counter);
+        }
+    }
+
+    /**
+     * Resolves the configured generation parallelism; zero or less means one worker per available processor.
+     *
+     * @return The number of generation workers
+     */
+    private int getGenerationParallelism() {
+        return generationParallelism > 0 ? generationParallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the pool running parallel generation workers, creating it on first use.
+     *
+     * @return The generation pool
+     */
+    private synchronized ForkJoinPool getGenerationPool() {
+        if (generationPool == null) {
+            generationPool = new ForkJoinPool(getGenerationParallelism());
+        }
+        return generationPool;
+    }
+
+    /**
+     * Returns the thread refilling reservoirs, creating it on first use.
+     *
+     * @return The reservoir refill executor
+     */
+    private synchronized ExecutorService getReservoirRefillExecutor() {
+        if (reservoirRefillExecutor == null) {
+            reservoirRefillExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("serial-reservoir-"));
+        }
+        return reservoirRefillExecutor;
+    }
+
+    /**
+     * Shuts down the generation pool and the reservoir refill thread when the application stops.
+     */
+    @PreDestroy
+    public synchronized void shutdownGenerationPool() {
+        if (generationPool != null) {
+            generationPool.shutdown();
+        }
+        if (reservoirRefillExecutor != null) {
+            reservoirRefillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates a batch of serial numbers based on the serial set configuration.
+     * The serials are drawn from the random source bound to the calling thread and are not checked for uniqueness.
+     *
+     * @param serialSet The serial set for which to generate serial numbers
+     * @param alphabet  The alphabet the serial numbers are made of
+     * @param count     The number of serial numbers to generate
+     * @return The generated serial numbers
+     */
+    @Override
+    public List<String> generateSerialBatch(final SerialSet serialSet, final Alphabet alphabet, final int count) {
+        return SerialBatchGenerator.current().generate(alphabet, serialSet.getSerialLength(), count);
     }
 
     /**
@@ -294,16 +1212,8 @@ public class SerialSetServiceImpl implements ISerialSetService {
      */
     @Override
     public String generateSingleSerial(final SerialSet serialSet,String characters) {
-        log.info("Generating single serial for serial set: {}", serialSet.getName());
-        final StringBuilder generatedSerial = new StringBuilder();
-        final SecureRandom secureRandom = new SecureRandom();
-
-        for (int i = 0; i < serialSet.getSerialLength(); i++) {
-            final char randomChar = characters.charAt(secureRandom.nextInt(characters.length()));
-            generatedSerial.append(randomChar);
-        }
-        log.info("Generated single serial: {}", generatedSerial);
-        return generatedSerial.toString();
+        final char[] chars = SerialBatchGenerator.current().fill(characters.toCharArray(), serialSet.getSerialLength(), 1);
+        return new String(chars, 0, serialSet.getSerialLength());
     }
 
     /**
@@ -329,9 +1239,14 @@ public class SerialSetServiceImpl implements ISerialSetService {
         log.info("Serial set saved successfully: {}", serialSetName);
     }
 
+    /**
+     * Saves a serial set owned by this node, so no other node resumes it while this one is alive.
+     *
+     * @param serialSet The serial set to save
+     */
     @Override
     public void saveSerialSet(final SerialSet serialSet){
-        serialSetRepository.save(serialSet);
+        serialSetRepository.save(serialSet.setOwnerNode(generationNode.getNodeId()).setHeartbeatAt(LocalDateTime.now()));
     }
 
     /**
@@ -342,14 +1257,55 @@ public class SerialSetServiceImpl implements ISerialSetService {
     @Override
     public void validateSerialSetConfiguration(final SerialSet serialSet) {
         log.info("Validating configuration of serial set: {}", serialSet.getName());
+        final SecureRandom secureRandom = new SecureRandom();
         if (serialSet.isConfiguration()) {
             checkSerialLength(serialSet.getSerialLength(),serialSet.getName());
-            return;
+            checkAlphabet(serialSet);
+        } else {
+            serialSet.setNumber(true);
+            checkAlphabet(serialSet);
+            // Random lengths too short to hold the requested quantity could never complete.
+            final int minimumLength = Math.min(getMinimumSerialLength(serialSet), maxRandomLength);
+            serialSet.setSerialLength(minimumLength + secureRandom.nextInt(maxRandomLength - minimumLength + 1));
         }
-        final SecureRandom secureRandom = new SecureRandom();
-        serialSet.setSerialLength(secureRandom.nextInt(maxRandomLength) + 1)
-                .setNumber(true);
+        checkKeyspace(serialSet);
+        if (serialSet.getGenerationMode() == GenerationMode.PERMUTATION && serialSet.getPermutationKey() == null) {
+            serialSet.setPermutationKey(secureRandom.nextLong());
+        }
+    }
+
+    private int getMinimumSerialLength(final SerialSet serialSet) {
+        final int alphabetSize = getAlphabet(serialSet).size();
+        int serialLength = 1;
+        double keyspace = alphabetSize;
+        while (keyspace < serialSet.getQuantity() && alphabetSize > 1) {
+            keyspace *= alphabetSize;
+            serialLength++;
+        }
+        return serialLength;
+    }
+
+    private void checkKeyspace(final SerialSet serialSet) {
+        final Alphabet alphabet = getAlphabet(serialSet);
+        final double keyspace = Math.pow(alphabet.size(), serialSet.getSerialLength());
+        if (serialSet.getQuantity() > keyspace) {
+            log.error("Serial set configuration validation failed. Quantity exceeds the keyspace. Serial set: {}", serialSet.getName());
+            throw new SerialSetException(KEYSPACE_ERROR_MESSAGE);
         }
+        // Random sets above the in-memory limit are deduplicated on disk, which needs serials packed into at most two words.
+        if (serialSet.getGenerationMode() == GenerationMode.RANDOM && serialSet.getQuantity() > inMemoryDedupLimit
+                && !new SerialCodec(alphabet, serialSet.getSerialLength()).isPackable()) {
+            log.error("Serial set configuration validation failed. Serials too long to deduplicate on disk. Serial set: {}", serialSet.getName());
+            throw new SerialSetException(DEDUP_LIMIT_ERROR_MESSAGE);
+        }
+    }
+
+    private void checkAlphabet(final SerialSet serialSet) {
+        if (getAlphabet(serialSet).isEmpty()) {
+            log.error("Serial set configuration validation failed. Empty character pool. Serial set: {}", serialSet.getName());
+            throw new SerialSetException(EMPTY_CHARACTER_POOL_ERROR_MESSAGE);
+        }
+    }
 
     private void checkSerialLength(final int serialLength,final String serialSetName) {
         if (serialLength < minSerialLength || serialLength > maxSerialLength) {
@@ -0,0 +1,332 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.dto.SerialVerificationResponse;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.generator.ShardedBloomFilter;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of the SerialVerificationService interface answering whether a serial number exists.
+ * <p>
+ * A single in-memory Bloom filter holds the serial numbers of every serial set: it is fed while serial numbers are
+ * generated on this node, and the serial numbers of a set are loaded from the database once the set is completed or
+ * failed, which covers serial numbers persisted by other nodes. The serial sets are refreshed from the database at
+ * startup and then periodically. A value the filter rejects is answered without touching the database unless an
+ * unfinished serial set is generated elsewhere, i.e. on another node, by partitions or by a resumed run, whose serial
+ * numbers the filter may lack; those values, as values that pass the filter, are looked up through the index on
+ * serial_number.value. Serial numbers of deleted sets stay in the filter until the next restart and are then only
+ * confirmed absent by the database. Hits are kept in a bounded cache with a time-to-live.
+ */
+@Service
+@Slf4j
+public class SerialVerificationServiceImpl implements ISerialVerificationService {
+
+    /**
+     * Serial sets whose serial numbers can be verified.
+     */
+    private static final Set<GenerationStatus> LIVE_STATUSES = EnumSet.complementOf(EnumSet.of(GenerationStatus.DELETING));
+
+    /**
+     * Serial sets no generation writes to anymore, so their serial numbers can be loaded from the database once.
+     */
+    private static final Set<GenerationStatus> SETTLED_STATUSES = EnumSet.of(GenerationStatus.COMPLETED, GenerationStatus.FAILED);
+
+    /**
+     * Number of serial numbers the filter is sized for loaded from properties; bounds its memory.
+     */
+    @Value("${serialSet.verification.capacity:10000000}")
+    private long capacity;
+
+    /**
+     * Accepted false positive probability of the filter loaded from properties.
+     */
+    @Value("${serialSet.verification.falsePositiveRate:0.001}")
+    private double falsePositiveRate;
+
+    /**
+     * Number of shards of the filter loaded from properties.
+     */
+    @Value("${serialSet.verification.shards:16}")
+    private int shards;
+
+    /**
+     * Maximum number of cached positive verifications loaded from properties.
+     */
+    @Value("${serialSet.verification.cacheSize:100000}")
+    private int cacheSize;
+
+    /**
+     * Time-to-live of cached positive verifications in milliseconds loaded from properties.
+     */
+    @Value("${serialSet.verification.cacheTtl:600000}")
+    private long cacheTtlMillis;
+
+    private final SerialSetRepository serialSetRepository;
+
+    private final SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    /**
+     * Serial numbers of every serial set.
+     */
+    private ShardedBloomFilter filter;
+
+    /**
+     * What the filter holds of each serial set, by serial set ID.
+     */
+    private final Map<Long, SetState> states = new ConcurrentHashMap<>();
+
+    /**
+     * IDs of the serial sets this node generates entirely, from their first serial number.
+     */
+    private final Set<Long> generatedLocally = ConcurrentHashMap.newKeySet();
+
+    /**
+     * IDs of the unfinished serial sets generated elsewhere as of the last refresh; while any is left, negatives are
+     * confirmed by the database.
+     */
+    private final Set<Long> generatedElsewhere = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Positive verifications by value.
+     */
+    private final Map<String, CachedVerification> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a thread is trimming the cache back under its size.
+     */
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    /**
+     * Whether the startup refresh of the filter is done.
+     */
+    private volatile boolean warmedUp;
+
+    public SerialVerificationServiceImpl(final SerialSetRepository serialSetRepository,
+                                         final SerialNumberJdbcRepository serialNumberJdbcRepository) {
+        this.serialSetRepository = serialSetRepository;
+        this.serialNumberJdbcRepository = serialNumberJdbcRepository;
+    }
+
+    @PostConstruct
+    void createFilter() {
+        filter = ShardedBloomFilter.create(capacity, falsePositiveRate, shards);
+        log.info("Verification filter of {} shards holds {} bytes", shards, filter.getSizeInBytes());
+    }
+
+    /**
+     * Verifies a serial number.
+     *
+     * @param value The serial number to verify
+     * @return Whether the serial number exists, and the serial set holding it
+     */
+    @Override
+    public SerialVerificationResponse verify(final String value) {
+        final CachedVerification cached = cache.get(value);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return new SerialVerificationResponse(value, true, cached.serialSetName);
+        }
+        if (generatedElsewhere.isEmpty() && !filter.mightContain(value)) {
+            log.debug("Serial number rejected by the Bloom filter: {}", value);
+            return new SerialVerificationResponse(value, false, null);
+        }
+
+        final Optional<String> serialSetName = serialNumberJdbcRepository.findSerialSetName(value);
+        log.debug("Serial number {} looked up in the database: {}", value, serialSetName.orElse("not found"));
+        serialSetName.ifPresent(name -> cacheHit(value, name));
+        return new SerialVerificationResponse(value, serialSetName.isPresent(), serialSetName.orElse(null));
+    }
+
+    /**
+     * Records that this node generates every serial number of a serial set, before any of them is persisted, so
+     * the filter covers the set while it is generated.
+     *
+     * @param serialSet The serial set
+     */
+    @Override
+    public void register(final SerialSet serialSet) {
+        getState(serialSet);
+        generatedLocally.add(serialSet.getId());
+        generatedElsewhere.remove(serialSet.getId());
+    }
+
+    /**
+     * Adds serial numbers about to be persisted to the filter.
+     *
+     * @param serialSet The serial set
+     * @param values    The serial numbers
+     */
+    @Override
+    public void record(final SerialSet serialSet, final List<String> values) {
+        values.forEach(filter::put);
+    }
+
+    /**
+     * Marks a serial set generated entirely on this node as loaded, so refreshes do not load it again.
+     *
+     * @param serialSet The completed serial set
+     */
+    @Override
+    public void complete(final SerialSet serialSet) {
+        getState(serialSet).loadedCount = serialSet.getQuantity();
+        generatedLocally.remove(serialSet.getId());
+    }
+
+    /**
+     * Forgets a deleted serial set and its cached hits; its serial numbers stay in the filter.
+     *
+     * @param serialSet The serial set
+     */
+    @Override
+    public void evict(final SerialSet serialSet) {
+        forget(serialSet.getId());
+        evictCachedHits(serialSet.getName());
+    }
+
+    /**
+     * Fills the filter with the serial numbers of the existing serial sets by streaming them once at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshFilters();
+        warmedUp = true;
+    }
+
+    /**
+     * Catches up with the serial sets created, completed or deleted by other nodes since the last refresh.
+     */
+    @Scheduled(fixedDelayString = "${serialSet.verification.refreshInterval:5000}",
+            initialDelayString = "${serialSet.verification.refreshInterval:5000}")
+    public void refresh() {
+        if (warmedUp) {
+            refreshFilters();
+        }
+    }
+
+    /**
+     * Loads the serial numbers of the settled serial sets whose generated count differs from what the filter holds,
+     * notes the unfinished serial sets generated elsewhere, and forgets deleted serial sets. Sets registered after
+     * the serial sets were read are generated on this node and are kept.
+     */
+    synchronized void refreshFilters() {
+        final long startedAt = System.nanoTime();
+        final List<SerialSet> serialSets = serialSetRepository.findByGenerationStatusIn(LIVE_STATUSES);
+        final Set<Long> liveIds = new HashSet<>();
+        final Set<Long> elsewhere = new HashSet<>();
+        int loaded = 0;
+        for (SerialSet serialSet : serialSets) {
+            liveIds.add(serialSet.getId());
+            final SetState state = getState(serialSet);
+            if (!SETTLED_STATUSES.contains(serialSet.getGenerationStatus())) {
+                if (!generatedLocally.contains(serialSet.getId())) {
+                    elsewhere.add(serialSet.getId());
+                }
+            } else if (state.loadedCount != serialSet.getGeneratedCount()) {
+                serialNumberJdbcRepository.forEachValue(serialSet.getId(), filter::put);
+                state.loadedCount = serialSet.getGeneratedCount();
+                generatedLocally.remove(serialSet.getId());
+                loaded++;
+            }
+        }
+        for (Iterator<SetState> it = states.values().iterator(); it.hasNext(); ) {
+            final SetState state = it.next();
+            if (!liveIds.contains(state.serialSetId) && state.createdAt - startedAt < 0) {
+                it.remove();
+                generatedLocally.remove(state.serialSetId);
+                evictCachedHits(state.serialSetName);
+            }
+        }
+        // Added before the stale IDs are removed, so a concurrent verification never sees the set empty by mistake
+        generatedElsewhere.addAll(elsewhere);
+        generatedElsewhere.retainAll(elsewhere);
+        generatedElsewhere.removeAll(generatedLocally);
+        if (loaded > 0) {
+            log.info("Loaded serial numbers of {} serial sets into the verification filter", loaded);
+        }
+    }
+
+    private SetState getState(final SerialSet serialSet) {
+        return states.computeIfAbsent(serialSet.getId(), id -> new SetState(serialSet.getId(), serialSet.getName()));
+    }
+
+    private void forget(final long serialSetId) {
+        states.remove(serialSetId);
+        generatedLocally.remove(serialSetId);
+        generatedElsewhere.remove(serialSetId);
+    }
+
+    /**
+     * Caches a positive verification. Past the cache size, expired hits are dropped first and then arbitrary ones,
+     * down to nine tenths of the size, by a single thread while the others go on reading and writing.
+     */
+    private void cacheHit(final String value, final String serialSetName) {
+        cache.put(value, new CachedVerification(serialSetName, System.currentTimeMillis() + cacheTtlMillis));
+        if (cache.size() <= cacheSize || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final long now = System.currentTimeMillis();
+            cache.values().removeIf(cached -> cached.expiresAt <= now);
+            final long target = cacheSize - cacheSize / 10L;
+            for (Iterator<String> it = cache.keySet().iterator(); cache.size() > target && it.hasNext(); ) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private void evictCachedHits(final String serialSetName) {
+        cache.values().removeIf(cached -> cached.serialSetName.equals(serialSetName));
+    }
+
+    private static final class SetState {
+
+        private final long serialSetId;
+
+        private final String serialSetName;
+
+        private final long createdAt = System.nanoTime();
+
+        /**
+         * Generated count of the serial set when its serial numbers were last loaded, -1 until then.
+         */
+        private volatile int loadedCount = -1;
+
+        private SetState(final long serialSetId, final String serialSetName) {
+            this.serialSetId = serialSetId;
+            this.serialSetName = serialSetName;
+        }
+    }
+
+    private static final class CachedVerification {
+
+        private final String serialSetName;
+
+        private final long expiresAt;
+
+        private CachedVerification(final String serialSetName, final long expiresAt) {
+            this.serialSetName = serialSetName;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -12,7 +12,12 @@ CREATE TABLE serial_set (
     number BOOLEAN,
     lower_case BOOLEAN,
     upper_case BOOLEAN,
-    exclusions VARCHAR(255)
+    exclusions VARCHAR(255),
+    generation_mode VARCHAR(20) DEFAULT 'RANDOM',
+    permutation_key BIGINT,
+    generation_status VARCHAR(20) DEFAULT 'PENDING',
+    generated_count INT DEFAULT 0,
+    permutation_offset BIGINT DEFAULT 0
 );
 
 -- Create index for SerialSet name
@@ -26,9 +31,35 @@ CREATE TABLE serial_number (
     id INT DEFAULT nextval('serial_number_id_seq') PRIMARY KEY,
     value VARCHAR(255),
     created_date TIMESTAMP,
+    issued_date TIMESTAMP,
     serial_set_id INT REFERENCES serial_set(id),
     FOREIGN KEY (serial_set_id) REFERENCES serial_set(id)
 );
 
 -- Create index for SerialNumber value
 CREATE INDEX idx_serialnumber_value ON serial_number (value);
+
+-- Create index for keyset pagination of the SerialNumbers of a SerialSet
+CREATE INDEX idx_serialnumber_set_id ON serial_number (serial_set_id, id);
+
+-- Create partial index for claiming the unissued SerialNumbers of a SerialSet
+CREATE INDEX idx_serialnumber_unissued ON serial_number (serial_set_id, id) WHERE issued_date IS NULL;
+
+-- Create GenerationPartition table leasing counter ranges of distributed SerialSets to nodes
+CREATE TABLE generation_partition (
+    id SERIAL PRIMARY KEY,
+    serial_set_id INT,
+    partition_index INT,
+    first_counter BIGINT,
+    quantity INT,
+    next_counter BIGINT,
+    lease_owner VARCHAR(255),
+    lease_expires_at TIMESTAMP,
+    completed BOOLEAN DEFAULT FALSE
+);
+
+-- Create index for the GenerationPartitions of a SerialSet
+CREATE INDEX idx_generation_partition_set ON generation_partition (serial_set_id);
+
+-- Global uniqueness mode (serialSet.uniqueness.global=true) creates this index at startup
+-- CREATE UNIQUE INDEX IF NOT EXISTS uidx_serialnumber_value ON serial_number (value);
@@ -17,6 +17,8 @@ public class TestDatabaseConfig {
     public DataSource dataSource() {
         return new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                // "value" is a keyword in H2 2.x but a column name of serial_number
+                .setName("testdb;NON_KEYWORDS=VALUE")
                 .build();
     }
 }
\ No newline at end of file
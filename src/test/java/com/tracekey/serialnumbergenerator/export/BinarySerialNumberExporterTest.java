@@ -0,0 +1,81 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.generator.SerialCodec;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test class for {@link BinarySerialNumberExporter}.
+ */
+class BinarySerialNumberExporterTest {
+
+    /**
+     * Testing the record width needed for base-N numbers.
+     */
+    @Test
+    void shouldComputeRecordWidth() {
+        assertEquals(5, BinarySerialNumberExporter.bytesFor(10, 10));
+        assertEquals(1, BinarySerialNumberExporter.bytesFor(10, 2));
+        assertEquals(8, BinarySerialNumberExporter.bytesFor(62, 10));
+    }
+
+    /**
+     * Testing that packed records decode back to the exported serial numbers.
+     */
+    @Test
+    void shouldExportPackedRecordsThatDecodeToTheSerialNumbers() throws IOException {
+        SerialSet serialSet = new SerialSet().setQuantity(3).setSerialLength(12).setNumber(true).setUpperCase(true);
+        List<String> serials = List.of("A1B2C3D4E5F6", "000000000000", "ZZZZZZZZZZZZ");
+        SerialNumberJdbcRepository repository = mock(SerialNumberJdbcRepository.class);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            serials.forEach(action);
+            return null;
+        }).when(repository).forEachValue(anyLong(), any());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new BinarySerialNumberExporter(repository).export(serialSet, outputStream);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+        assertArrayEquals(BinarySerialNumberExporter.MAGIC, magic);
+        assertEquals(BinarySerialNumberExporter.VERSION, in.readByte());
+        assertEquals(BinarySerialNumberExporter.PACKED_ENCODING, in.readByte());
+        assertEquals(12, in.readShort());
+        byte[] alphabetBytes = new byte[in.readShort()];
+        in.readFully(alphabetBytes);
+        assertEquals(3, in.readInt());
+        int recordWidth = in.readShort();
+        assertEquals(BinarySerialNumberExporter.bytesFor(36, 12), recordWidth);
+
+        SerialCodec codec = new SerialCodec(Alphabet.of(true, false, true, ""), 12);
+        List<String> decoded = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            long value = 0;
+            for (int b = 0; b < recordWidth; b++) {
+                value = (value << 8) | in.readUnsignedByte();
+            }
+            decoded.add(codec.decode(value, 0));
+        }
+        assertEquals(serials, decoded);
+        assertEquals(-1, in.read());
+    }
+}
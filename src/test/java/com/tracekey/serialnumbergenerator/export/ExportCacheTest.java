@@ -0,0 +1,159 @@
+package com.tracekey.serialnumbergenerator.export;
+
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ExportCache}.
+ */
+class ExportCacheTest {
+
+    @TempDir
+    Path exportDirectory;
+
+    private ExportCache exportCache;
+
+    @BeforeEach
+    void setUp() {
+        exportCache = new ExportCache();
+        ReflectionTestUtils.setField(exportCache, "exportDirectory", exportDirectory.toString());
+        ReflectionTestUtils.setField(exportCache, "maxBytes", 250L);
+        ReflectionTestUtils.setField(exportCache, "deleteDelayMillis", 60_000L);
+    }
+
+    /**
+     * Testing that the first export is streamed to the client and cached, and served from the cache afterwards.
+     */
+    @Test
+    void shouldStreamExportOnceAndServeItFromCache() throws IOException {
+        SerialSet serialSet = createSerialSet(1);
+        AtomicInteger writes = new AtomicInteger();
+
+        byte[] first = export(serialSet, ExportFormat.CSV, out -> {
+            writes.incrementAndGet();
+            out.write(new byte[100]);
+        });
+        byte[] second = export(serialSet, ExportFormat.CSV, out -> writes.incrementAndGet());
+
+        assertEquals(100, first.length);
+        assertArrayEquals(first, second);
+        assertEquals(1, writes.get());
+        assertEquals(100, exportCache.getTotalBytes());
+    }
+
+    /**
+     * Testing that an export failing halfway is not cached.
+     */
+    @Test
+    void shouldNotCacheFailedExport() throws IOException {
+        SerialSet serialSet = createSerialSet(1);
+
+        assertThrows(IOException.class, () -> exportCache.writeThrough(serialSet, ExportFormat.CSV,
+                new ByteArrayOutputStream(), out -> {
+                    out.write(new byte[10]);
+                    throw new IOException("cursor closed");
+                }));
+
+        assertNull(exportCache.find(serialSet, ExportFormat.CSV));
+        try (Stream<Path> files = Files.list(exportDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * Testing that the least recently used export is evicted once the cache exceeds its bound.
+     */
+    @Test
+    void shouldEvictLeastRecentlyUsedExport() throws IOException {
+        export(createSerialSet(1), ExportFormat.CSV, out -> out.write(new byte[100]));
+        export(createSerialSet(2), ExportFormat.CSV, out -> out.write(new byte[100]));
+        export(createSerialSet(1), ExportFormat.CSV, out -> fail("Should be cached"));
+        export(createSerialSet(3), ExportFormat.CSV, out -> out.write(new byte[100]));
+
+        assertCached(createSerialSet(1), ExportFormat.CSV, true);
+        assertCached(createSerialSet(2), ExportFormat.CSV, false);
+        assertCached(createSerialSet(3), ExportFormat.CSV, true);
+        assertEquals(200, exportCache.getTotalBytes());
+    }
+
+    /**
+     * Testing that invalidating a serial set removes all of its exports and only those.
+     */
+    @Test
+    void shouldInvalidateExportsOfSerialSet() throws IOException {
+        export(createSerialSet(1), ExportFormat.CSV, out -> out.write(1));
+        export(createSerialSet(1), ExportFormat.BINARY, out -> out.write(1));
+        export(createSerialSet(11), ExportFormat.CSV, out -> out.write(1));
+
+        exportCache.invalidate(1);
+
+        assertCached(createSerialSet(1), ExportFormat.CSV, false);
+        assertCached(createSerialSet(1), ExportFormat.BINARY, false);
+        assertCached(createSerialSet(11), ExportFormat.CSV, true);
+        assertEquals(1, exportCache.getTotalBytes());
+    }
+
+    /**
+     * Testing that an export handed out before its serial set is invalidated can still be read completely,
+     * and that its file is deleted once the delay has passed.
+     */
+    @Test
+    void shouldServeHandedOutExportAfterInvalidation() throws IOException {
+        SerialSet serialSet = createSerialSet(1);
+        export(serialSet, ExportFormat.CSV, out -> out.write(new byte[100]));
+
+        Resource handedOut = exportCache.find(serialSet, ExportFormat.CSV);
+        exportCache.invalidate(1);
+        exportCache.deletePendingFiles();
+
+        try (InputStream opened = handedOut.getInputStream()) {
+            assertEquals(100, opened.readAllBytes().length);
+        }
+        assertNull(exportCache.find(serialSet, ExportFormat.CSV));
+
+        ReflectionTestUtils.setField(exportCache, "deleteDelayMillis", 0L);
+        exportCache.invalidate(1);
+        export(serialSet, ExportFormat.CSV, out -> out.write(new byte[100]));
+        exportCache.invalidate(1);
+        exportCache.deletePendingFiles();
+        try (Stream<Path> files = Files.list(exportDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private byte[] export(SerialSet serialSet, ExportFormat format, ExportCache.ExportWriter writer) throws IOException {
+        Resource cached = exportCache.find(serialSet, format);
+        if (cached != null) {
+            try (InputStream inputStream = cached.getInputStream()) {
+                return inputStream.readAllBytes();
+            }
+        }
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        exportCache.writeThrough(serialSet, format, target, writer);
+        return target.toByteArray();
+    }
+
+    private void assertCached(SerialSet serialSet, ExportFormat format, boolean expected) {
+        assertEquals(expected, exportCache.find(serialSet, format) != null);
+    }
+
+    private SerialSet createSerialSet(long id) {
+        SerialSet serialSet = new SerialSet().setName("Set" + id).setQuantity(10);
+        ReflectionTestUtils.setField(serialSet, "id", id);
+        return serialSet;
+    }
+}
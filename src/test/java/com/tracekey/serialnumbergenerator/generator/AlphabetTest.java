@@ -0,0 +1,49 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link Alphabet}.
+ */
+class AlphabetTest {
+
+    /**
+     * Testing that the compiled characters follow the pool order with exclusions removed.
+     */
+    @Test
+    void shouldCompileCharactersWithoutExclusions() {
+        Alphabet alphabet = Alphabet.of(true, false, true, "0O");
+
+        assertEquals(34, alphabet.size());
+        assertEquals('1', alphabet.charAt(0));
+        assertEquals(-1, alphabet.indexOf('0'));
+        assertEquals(9, alphabet.indexOf('A'));
+        assertFalse(alphabet.contains('O'));
+        assertFalse(alphabet.contains('a'));
+        assertTrue(alphabet.contains('Z'));
+    }
+
+    /**
+     * Testing that equivalent configurations share one cached instance.
+     */
+    @Test
+    void shouldShareInstanceForEquivalentConfigurations() {
+        assertSame(Alphabet.of(true, true, false, "xa"), Alphabet.of(true, true, false, "axx"));
+        assertSame(Alphabet.of(true, false, false, null), Alphabet.of(true, false, false, ""));
+        assertNotSame(Alphabet.of(true, false, false, ""), Alphabet.of(false, true, false, ""));
+    }
+
+    /**
+     * Testing serial membership checks, including characters outside the lookup table.
+     */
+    @Test
+    void shouldMatchSerialsMadeOfAllowedCharacters() {
+        Alphabet alphabet = Alphabet.of(true, false, false, "");
+
+        assertTrue(alphabet.matches("0123456789"));
+        assertFalse(alphabet.matches("01234a"));
+        assertFalse(alphabet.matches("0123é"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link BloomFilter}.
+ */
+class BloomFilterTest {
+
+    /**
+     * Testing that added serials are always found and other serials rarely are.
+     */
+    @Test
+    void shouldHaveNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put("SN" + i);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(filter.mightContain("SN" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("XX" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,138 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link ExternalSerialDeduplicator}.
+ */
+class ExternalSerialDeduplicatorTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Testing that candidates spread over many runs are drained once each, in random order, without excluded ones.
+     */
+    @Test
+    void shouldDrainDistinctCandidatesNotExcluded() throws IOException {
+        List<Long> drained = new ArrayList<>();
+        try (ExternalSerialDeduplicator dedup = new ExternalSerialDeduplicator(directory, 16, 1)) {
+            for (long code = 0; code < 200; code++) {
+                dedup.addExcluded(code * 3);
+            }
+            Random random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                dedup.addCandidate(random.nextInt(600));
+            }
+
+            long count = dedup.drain(Long.MAX_VALUE, (first, second) -> true, (first, second) -> drained.add(first), random);
+
+            assertEquals(drained.size(), count);
+            assertTrue(dedup.getSpilledBytes() > 0);
+        }
+        Set<Long> distinct = new HashSet<>(drained);
+        assertEquals(drained.size(), distinct.size());
+        assertTrue(distinct.stream().noneMatch(code -> code % 3 == 0));
+        long ascending = 0;
+        for (int i = 1; i < drained.size(); i++) {
+            ascending += drained.get(i - 1) < drained.get(i) ? 1 : 0;
+        }
+        assertTrue(ascending < drained.size() * 3 / 4);
+    }
+
+    /**
+     * Testing that two-word codes are deduplicated on both words and drained together.
+     */
+    @Test
+    void shouldDrainDistinctTwoWordCodes() throws IOException {
+        Set<List<Long>> drained = new HashSet<>();
+        try (ExternalSerialDeduplicator dedup = new ExternalSerialDeduplicator(directory, 16, 2)) {
+            dedup.addExcluded(5, 5);
+            Random random = new Random(3);
+            for (int i = 0; i < 1000; i++) {
+                dedup.addCandidate(random.nextInt(10), random.nextInt(10));
+            }
+
+            long count = dedup.drain(Long.MAX_VALUE, (first, second) -> true,
+                    (first, second) -> assertTrue(drained.add(List.of(first, second))), random);
+
+            assertEquals(99, count);
+        }
+        assertFalse(drained.contains(List.of(5L, 5L)));
+    }
+
+    /**
+     * Testing that multi-word records are sorted on all their words.
+     */
+    @Test
+    void shouldSortRecordsWordByWord() {
+        Random random = new Random(11);
+        long[] words = new long[3 * 500];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextInt(4) - 2;
+        }
+
+        ExternalSerialDeduplicator.sort(words, 3, 0, 500);
+
+        for (int i = 1; i < 500; i++) {
+            int result = Long.compare(words[3 * i - 3], words[3 * i]);
+            result = result != 0 ? result : Long.compare(words[3 * i - 2], words[3 * i + 1]);
+            result = result != 0 ? result : Long.compare(words[3 * i - 1], words[3 * i + 2]);
+            assertTrue(result <= 0);
+        }
+    }
+
+    /**
+     * Testing that a drain keeps exactly the wanted number of candidates and excludes them from the next drain.
+     */
+    @Test
+    void shouldKeepWantedCountAndExcludeItFromLaterDrains() throws IOException {
+        Set<Long> drained = new HashSet<>();
+        try (ExternalSerialDeduplicator dedup = new ExternalSerialDeduplicator(directory, 64, 1)) {
+            Random random = new Random(7);
+            for (long code = 0; code < 500; code++) {
+                dedup.addCandidate(code);
+            }
+            assertEquals(300, dedup.drain(300, (first, second) -> true, (first, second) -> drained.add(first), random));
+
+            for (long code = 0; code < 500; code++) {
+                dedup.addCandidate(code);
+            }
+            assertEquals(200, dedup.drain(300, (first, second) -> true, (first, second) -> assertTrue(drained.add(first)), random));
+        }
+        assertEquals(500, drained.size());
+    }
+
+    /**
+     * Testing that rejected candidates are not counted, and that closing deletes every run file.
+     */
+    @Test
+    void shouldSkipRejectedCandidatesAndDeleteRuns() throws IOException {
+        List<Long> drained = new ArrayList<>();
+        try (ExternalSerialDeduplicator dedup = new ExternalSerialDeduplicator(directory, 8, 1)) {
+            for (long code = 0; code < 100; code++) {
+                dedup.addCandidate(code);
+            }
+            assertEquals(50, dedup.drain(100, (first, second) -> first % 2 == 0, (first, second) -> drained.add(first), new Random(1)));
+        }
+        assertFalse(drained.stream().anyMatch(code -> code % 2 != 0));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SerialDedupSet} and the packed encoding behind it.
+ */
+class SerialDedupSetTest {
+
+    private static final Alphabet FULL_ALPHABET = Alphabet.of(true, true, true, "");
+
+    /**
+     * Testing how many characters of the full alphabet pack into one word.
+     */
+    @Test
+    void shouldPackTenCharactersOfFullAlphabetPerWord() {
+        assertEquals(10, new SerialCodec(FULL_ALPHABET, 10).getCharsPerWord());
+        assertEquals(1, new SerialCodec(FULL_ALPHABET, 10).getWidth());
+        assertEquals(2, new SerialCodec(FULL_ALPHABET, 20).getWidth());
+        assertFalse(new SerialCodec(FULL_ALPHABET, 21).isPackable());
+    }
+
+    /**
+     * Testing that encoding and decoding round-trip for one- and two-word serials.
+     */
+    @Test
+    void shouldRoundTripEncodedSerials() {
+        for (String serial : List.of("zzzzzzzzzz", "0000000001", "aZ09bY18cX27dW36eV45")) {
+            SerialCodec codec = new SerialCodec(FULL_ALPHABET, serial.length());
+            assertEquals(serial, codec.decode(codec.encodeFirst(serial), codec.encodeSecond(serial)));
+        }
+    }
+
+    /**
+     * Testing that the packed set agrees with a regular set on random serials, across resizes.
+     */
+    @Test
+    void shouldRejectDuplicatesLikeHashSet() {
+        for (int serialLength : new int[]{4, 15, 25}) {
+            SerialDedupSet dedupSet = SerialDedupSet.create(FULL_ALPHABET, serialLength, 16);
+            Set<String> expected = new HashSet<>();
+            List<String> serials = SerialBatchGenerator.current().generate(FULL_ALPHABET, serialLength, 20000);
+            serials.addAll(serials.subList(0, 500));
+
+            serials.forEach(serial -> assertEquals(expected.add(serial), dedupSet.add(serial)));
+            assertEquals(expected.size(), dedupSet.size());
+        }
+    }
+
+    /**
+     * Testing the primitive set directly with two-word keys.
+     */
+    @Test
+    void shouldStoreTwoWordKeys() {
+        LongHashSet set = new LongHashSet(2, 4);
+
+        assertTrue(set.add(1L, 2L));
+        assertTrue(set.add(2L, 1L));
+        assertFalse(set.add(1L, 2L));
+        assertTrue(set.contains(2L, 1L));
+        assertFalse(set.contains(1L, 1L));
+        assertEquals(2, set.size());
+    }
+}
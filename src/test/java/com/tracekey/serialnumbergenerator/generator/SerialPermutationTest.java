@@ -0,0 +1,60 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SerialPermutation}.
+ */
+class SerialPermutationTest {
+
+    /**
+     * Testing that every counter of a small keyspace maps to a distinct serial of the alphabet.
+     */
+    @Test
+    void shouldCoverWholeKeyspaceWithoutCollisions() {
+        Alphabet alphabet = Alphabet.of(true, false, false, "");
+        SerialPermutation permutation = new SerialPermutation(alphabet, 4, 42L);
+        Set<String> serials = new HashSet<>();
+
+        for (long counter = 0; counter < permutation.getCapacity(); counter++) {
+            String serial = permutation.serialAt(counter);
+            assertTrue(alphabet.matches(serial));
+            assertTrue(serials.add(serial));
+        }
+        assertEquals(10000, serials.size());
+    }
+
+    /**
+     * Testing that long serials keep their permuted digits unique and fill the remaining characters.
+     */
+    @Test
+    void shouldGenerateDistinctLongSerials() {
+        Alphabet alphabet = Alphabet.of(true, true, true, "");
+        SerialPermutation permutation = new SerialPermutation(alphabet, 20, 7L);
+        Set<String> serials = new HashSet<>();
+
+        for (long counter = 0; counter < 50000; counter++) {
+            String serial = permutation.serialAt(counter);
+            assertEquals(20, serial.length());
+            assertTrue(serials.add(serial));
+        }
+    }
+
+    /**
+     * Testing that the key drives the permutation.
+     */
+    @Test
+    void shouldDependOnKey() {
+        Alphabet alphabet = Alphabet.of(false, true, false, "");
+        SerialPermutation first = new SerialPermutation(alphabet, 12, 1L);
+        SerialPermutation second = new SerialPermutation(alphabet, 12, 2L);
+
+        assertEquals(first.serialAt(5), new SerialPermutation(alphabet, 12, 1L).serialAt(5));
+        assertNotEquals(first.serialAt(5), second.serialAt(5));
+    }
+}
@@ -0,0 +1,44 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link SerialReservoir}.
+ */
+class SerialReservoirTest {
+
+    /**
+     * Testing that the reservoir keeps distinct serials up to its capacity and hands them out oldest first.
+     */
+    @Test
+    void shouldKeepDistinctSerialsUpToCapacity() {
+        SerialReservoir reservoir = new SerialReservoir(3, 2);
+
+        assertEquals(3, reservoir.offer(List.of("A", "B", "A", "C", "D")));
+        assertEquals(List.of("A", "B"), reservoir.take(2));
+        assertEquals(List.of("C"), reservoir.take(5));
+        assertEquals(0, reservoir.size());
+    }
+
+    /**
+     * Testing that a refill is claimed once, and only below the low-water mark.
+     */
+    @Test
+    void shouldClaimRefillOnlyBelowLowWaterMark() {
+        SerialReservoir reservoir = new SerialReservoir(4, 2);
+        reservoir.offer(List.of("A", "B"));
+        assertFalse(reservoir.startRefill());
+
+        reservoir.take(1);
+        assertTrue(reservoir.startRefill());
+        assertFalse(reservoir.startRefill());
+        reservoir.refillDone();
+        assertTrue(reservoir.startRefill());
+    }
+}
@@ -0,0 +1,38 @@
+package com.tracekey.serialnumbergenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link ShardedBloomFilter}.
+ */
+class ShardedBloomFilterTest {
+
+    /**
+     * Testing that added serials are found across shards, and that adding a serial twice reports it.
+     */
+    @Test
+    void shouldFindAddedSerialsAndReportRepeatedPuts() {
+        ShardedBloomFilter filter = ShardedBloomFilter.create(100_000, 0.01, 16);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put("SN" + i);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(filter.mightContain("SN" + i));
+        }
+        assertFalse(filter.put("SN42"));
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("XX" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+        assertTrue(filter.getInsertions() > 99_000);
+        assertEquals(100_000, filter.getCapacity());
+    }
+}
@@ -0,0 +1,128 @@
+package com.tracekey.serialnumbergenerator.repository;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.dto.SerialNumberResponse;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link SerialNumberJdbcRepository} against the embedded H2 database.
+ */
+@SpringBootTest
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class SerialNumberJdbcRepositoryTest {
+
+    @Autowired
+    private SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    @Autowired
+    private SerialSetRepository serialSetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM serial_number");
+        serialSetRepository.deleteAll();
+    }
+
+    /**
+     * Testing that a batch insert stores every serial number for its serial set.
+     */
+    @Test
+    void shouldInsertSerialNumbersInBatch() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("BatchSet").setQuantity(1000));
+        List<String> values = IntStream.range(0, 1000).mapToObj(i -> "SN" + i).collect(Collectors.toList());
+
+        serialNumberJdbcRepository.insertBatch(serialSet.getId(), values);
+
+        assertEquals(1000, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM serial_number WHERE serial_set_id = ?", Integer.class, serialSet.getId()));
+        assertEquals(1000, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT value) FROM serial_number WHERE created_date IS NOT NULL", Integer.class));
+    }
+
+    /**
+     * Testing that streaming returns exactly the serial numbers of the requested serial set.
+     */
+    @Test
+    void shouldStreamSerialNumbersOfSerialSet() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("StreamSet").setQuantity(300));
+        SerialSet otherSet = serialSetRepository.save(new SerialSet().setName("OtherSet").setQuantity(10));
+        List<String> values = IntStream.range(0, 300).mapToObj(i -> "SN" + i).collect(Collectors.toList());
+        serialNumberJdbcRepository.insertBatch(serialSet.getId(), values);
+        serialNumberJdbcRepository.insertBatch(otherSet.getId(), List.of("OTHER"));
+
+        Set<String> streamed = new HashSet<>();
+        serialNumberJdbcRepository.forEachValue(serialSet.getId(), streamed::add);
+
+        assertEquals(new HashSet<>(values), streamed);
+    }
+
+    /**
+     * Testing that keyset pages cover the serial numbers of a serial set in ID order, without gaps or overlaps.
+     */
+    @Test
+    void shouldPageThroughSerialNumbersByKeyset() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("PageSet").setQuantity(250));
+        List<String> values = IntStream.range(0, 250).mapToObj(i -> "SN" + i).collect(Collectors.toList());
+        serialNumberJdbcRepository.insertBatch(serialSet.getId(), values);
+
+        List<String> paged = new ArrayList<>();
+        long after = 0;
+        List<SerialNumberResponse> page;
+        do {
+            page = serialNumberJdbcRepository.findPage(serialSet.getId(), after, 100);
+            page.forEach(serialNumber -> paged.add(serialNumber.getValue()));
+            if (!page.isEmpty()) {
+                assertTrue(page.get(0).getId() > after);
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 100);
+
+        assertEquals(values, paged);
+    }
+
+    /**
+     * Testing that the unique value index rejects a serial number held by another serial set,
+     * and that the conflicting value is found.
+     */
+    @Test
+    void shouldRejectSerialNumberHeldByAnotherSerialSet() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("FirstSet").setQuantity(2));
+        SerialSet otherSet = serialSetRepository.save(new SerialSet().setName("SecondSet").setQuantity(2));
+        serialNumberJdbcRepository.insertBatch(serialSet.getId(), List.of("SN1", "SN2"));
+        serialNumberJdbcRepository.createUniqueValueIndex();
+        try {
+            assertThrows(DuplicateKeyException.class,
+                    () -> serialNumberJdbcRepository.insertBatch(otherSet.getId(), List.of("SN3", "SN2")));
+
+            assertEquals(Set.of("SN2"), serialNumberJdbcRepository.findExistingValues(List.of("SN4", "SN2")));
+            Set<String> streamed = new HashSet<>();
+            serialNumberJdbcRepository.forEachValue(streamed::add);
+            assertTrue(streamed.containsAll(Set.of("SN1", "SN2")));
+        } finally {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS uidx_serialnumber_value");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.tracekey.serialnumbergenerator.repository;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.dto.SerialSetSummaryResponse;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for {@link SerialSetRepository} against the embedded H2 database.
+ */
+@SpringBootTest
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class SerialSetRepositoryTest {
+
+    @Autowired
+    private SerialSetRepository serialSetRepository;
+
+    @AfterEach
+    void cleanUp() {
+        serialSetRepository.deleteAll();
+    }
+
+    /**
+     * Testing that summaries carry the generation progress and honour sorting and paging.
+     */
+    @Test
+    void shouldListSortedAndPagedSummaries() {
+        for (String name : List.of("Bravo", "Alpha", "Charlie")) {
+            SerialSet serialSet = serialSetRepository.save(new SerialSet().setName(name).setQuantity(100));
+            serialSetRepository.incrementGeneratedCount(serialSet.getId(), name.length());
+            serialSetRepository.updateGenerationStatus(serialSet.getId(), GenerationStatus.RUNNING);
+        }
+
+        List<SerialSetSummaryResponse> all = serialSetRepository.findSummaries(Sort.by("name"));
+        List<SerialSetSummaryResponse> secondPage = serialSetRepository.findSummaries(
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name")));
+
+        assertEquals(List.of("Alpha", "Bravo", "Charlie"),
+                all.stream().map(SerialSetSummaryResponse::getName).collect(Collectors.toList()));
+        assertEquals(5, all.get(0).getGeneratedCount());
+        assertEquals(GenerationStatus.RUNNING, all.get(0).getGenerationStatus());
+        assertEquals(List.of("Alpha"),
+                secondPage.stream().map(SerialSetSummaryResponse::getName).collect(Collectors.toList()));
+    }
+
+    /**
+     * Testing that an unfinished serial set is claimed only by its owner or once the heartbeat of its owner expired.
+     */
+    @Test
+    void shouldClaimOwnershipOnlyFromOwnerOrAfterHeartbeatExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("Owned").setQuantity(100)
+                .setOwnerNode("node-a").setHeartbeatAt(now.minusMinutes(5)));
+        Set<GenerationStatus> unfinished = EnumSet.of(GenerationStatus.PENDING, GenerationStatus.RUNNING);
+
+        serialSetRepository.renewHeartbeat("node-a", now, unfinished);
+
+        assertEquals(0, serialSetRepository.claimOwnership(serialSet.getId(), "node-b", now, now.minusMinutes(1), unfinished));
+        assertEquals(1, serialSetRepository.claimOwnership(serialSet.getId(), "node-a", now, now.minusMinutes(1), unfinished));
+        assertEquals(1, serialSetRepository.claimOwnership(serialSet.getId(), "node-b", now, now.plusMinutes(1), unfinished));
+        assertEquals("node-b", serialSetRepository.findById(serialSet.getId()).orElseThrow().getOwnerNode());
+        assertEquals(0, serialSetRepository.renewHeartbeat("node-a", now, unfinished));
+    }
+}
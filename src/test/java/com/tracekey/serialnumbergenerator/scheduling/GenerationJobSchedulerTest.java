@@ -0,0 +1,64 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.SerialNumberGeneratorApplication;
+import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link GenerationJobScheduler}.
+ */
+class GenerationJobSchedulerTest {
+
+    private ThreadPoolExecutor executor;
+
+    private GenerationJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        executor = new SerialNumberGeneratorApplication().generationJobExecutor(1, 3, "abort");
+        scheduler = new GenerationJobScheduler(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Testing that queued jobs run smallest first and that a full queue rejects new jobs.
+     */
+    @Test
+    void shouldRunSmallJobsFirstAndRejectWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        scheduler.submit("blocker", 0, () -> await(release));
+        CompletableFuture<Void> large = scheduler.submit("large", 5000, () -> order.add("large"));
+        CompletableFuture<Void> small = scheduler.submit("small", 10, () -> order.add("small"));
+        CompletableFuture<Void> medium = scheduler.submit("medium", 500, () -> order.add("medium"));
+
+        assertThrows(SerialSetException.class, () -> scheduler.submit("overflow", 1, () -> { }));
+
+        release.countDown();
+        CompletableFuture.allOf(large, small, medium).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("small", "medium", "large"), order);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.GenerationPartitionRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link GenerationRecoveryScanner}.
+ */
+class GenerationRecoveryScannerTest {
+
+    private static final String NODE_ID = "test-node";
+
+    @Mock
+    private SerialSetRepository serialSetRepository;
+
+    @Mock
+    private ISerialSetService serialSetService;
+
+    @Mock
+    private GenerationPartitionRepository generationPartitionRepository;
+
+    @Mock
+    private GenerationNode generationNode;
+
+    @InjectMocks
+    private GenerationRecoveryScanner generationRecoveryScanner;
+
+    private final SerialSet ownSet = serialSet(1L, NODE_ID);
+
+    private final SerialSet liveSet = serialSet(2L, "live-node");
+
+    private final SerialSet abandonedSet = serialSet(3L, "stopped-node");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(generationRecoveryScanner, "recoveryEnabled", true);
+        when(generationNode.getNodeId()).thenReturn(NODE_ID);
+        when(generationNode.getHeartbeatExpiry()).thenReturn(LocalDateTime.now());
+        when(serialSetRepository.findByGenerationStatusIn(any())).thenReturn(List.of(ownSet, liveSet, abandonedSet));
+        when(serialSetRepository.claimOwnership(anyLong(), eq(NODE_ID), any(), any(), any())).thenReturn(1);
+        when(serialSetRepository.claimOwnership(eq(liveSet.getId()), eq(NODE_ID), any(), any(), any())).thenReturn(0);
+    }
+
+    private static SerialSet serialSet(final long id, final String ownerNode) {
+        SerialSet serialSet = new SerialSet().setName("Set" + id).setQuantity(100)
+                .setGenerationStatus(GenerationStatus.RUNNING).setOwnerNode(ownerNode);
+        ReflectionTestUtils.setField(serialSet, "id", id);
+        return serialSet;
+    }
+
+    /**
+     * Testing that startup resumes the sets of this node and of stopped nodes, but not those of live nodes.
+     */
+    @Test
+    void shouldResumeOwnAndAbandonedSerialSetsAtStartup() {
+        generationRecoveryScanner.resumeUnfinishedSerialSets();
+
+        verify(serialSetService).generateSerialNumbersAsync(ownSet);
+        verify(serialSetService).generateSerialNumbersAsync(abandonedSet);
+        verify(serialSetService, never()).generateSerialNumbersAsync(liveSet);
+        assertEquals(NODE_ID, abandonedSet.getOwnerNode());
+    }
+
+    /**
+     * Testing that the periodic takeover leaves the sets this node is generating alone.
+     */
+    @Test
+    void shouldOnlyTakeOverAbandonedSerialSetsWhileRunning() {
+        generationRecoveryScanner.takeOverAbandonedSerialSets();
+
+        verify(serialSetRepository, never()).claimOwnership(eq(ownSet.getId()), any(), any(), any(), any());
+        verify(serialSetService, never()).generateSerialNumbersAsync(ownSet);
+        verify(serialSetService).generateSerialNumbersAsync(abandonedSet);
+        verify(serialSetService, never()).generateSerialNumbersAsync(liveSet);
+    }
+}
@@ -0,0 +1,122 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.dto.SerialSetRequest;
+import com.tracekey.serialnumbergenerator.entity.GenerationPartition;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.GenerationPartitionRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import com.tracekey.serialnumbergenerator.service.ISerialSetService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PartitionLeaseWorker} against the embedded H2 database.
+ */
+@SpringBootTest(properties = {"serialSet.distributed.enabled=true", "serialSet.distributed.partitionSize=100",
+        "serialSet.distributed.pollInterval=3600000", "serialSet.distributed.nodeId=test-node"})
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class PartitionLeaseWorkerTest {
+
+    @Autowired
+    private PartitionLeaseWorker partitionLeaseWorker;
+
+    @Autowired
+    private ISerialSetService serialSetService;
+
+    @Autowired
+    private GenerationPartitionRepository generationPartitionRepository;
+
+    @Autowired
+    private SerialSetRepository serialSetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        generationPartitionRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM serial_number");
+        serialSetRepository.deleteAll();
+    }
+
+    /**
+     * Testing that a large serial set is split into partitions whose leases produce the whole set without collisions.
+     */
+    @Test
+    void shouldGenerateDistributedSerialSetPartitionByPartition() throws InterruptedException {
+        serialSetService.createSerialSet(createRequest("DistributedSet", 250));
+        SerialSet serialSet = serialSetRepository.findByName("DistributedSet").orElseThrow();
+        assertEquals(3, generationPartitionRepository.countBySerialSetIdAndCompletedFalse(serialSet.getId()));
+
+        for (int i = 0; i < 200 && serialSetRepository.findById(serialSet.getId()).orElseThrow()
+                .getGenerationStatus() != GenerationStatus.COMPLETED; i++) {
+            partitionLeaseWorker.leasePartitions();
+            Thread.sleep(50);
+        }
+
+        assertEquals(GenerationStatus.COMPLETED, serialSetRepository.findById(serialSet.getId()).orElseThrow().getGenerationStatus());
+        assertEquals(250, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT value) FROM serial_number WHERE serial_set_id = ?", Integer.class, serialSet.getId()));
+        assertEquals(250, serialSetRepository.findById(serialSet.getId()).orElseThrow().getGeneratedCount());
+    }
+
+    /**
+     * Testing that a live lease cannot be taken, an expired one can, and the former owner is then fenced off.
+     */
+    @Test
+    void shouldTakeOverExpiredLeaseAndFenceFormerOwner() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("LeaseSet").setQuantity(100));
+        GenerationPartition partition = generationPartitionRepository.save(new GenerationPartition()
+                .setSerialSetId(serialSet.getId()).setQuantity(100));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, generationPartitionRepository.acquireLease(partition.getId(), "node-a", now.minusSeconds(1), now.minusSeconds(2)));
+        assertEquals(1, generationPartitionRepository.acquireLease(partition.getId(), "node-b", now.plusMinutes(1), now));
+        assertEquals(0, generationPartitionRepository.acquireLease(partition.getId(), "node-a", now.plusMinutes(1), now));
+        assertTrue(generationPartitionRepository.findLeasable(now, PageRequest.of(0, 10)).isEmpty());
+
+        assertEquals(0, generationPartitionRepository.checkpoint(partition.getId(), "node-a", 50, now.plusMinutes(1), now));
+        assertEquals(0, generationPartitionRepository.complete(partition.getId(), "node-a", now));
+        assertEquals(1, generationPartitionRepository.checkpoint(partition.getId(), "node-b", 50, now.plusMinutes(1), now));
+        assertEquals(50, generationPartitionRepository.findById(partition.getId()).orElseThrow().getNextCounter());
+    }
+
+    /**
+     * Testing that an owner whose lease expired is fenced off even before another node takes the lease over.
+     */
+    @Test
+    void shouldFenceOwnerOfExpiredLease() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("ExpiredLeaseSet").setQuantity(100));
+        GenerationPartition partition = generationPartitionRepository.save(new GenerationPartition()
+                .setSerialSetId(serialSet.getId()).setQuantity(100));
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, generationPartitionRepository.acquireLease(partition.getId(), "node-a", now.minusSeconds(1), now.minusSeconds(2)));
+
+        assertEquals(0, generationPartitionRepository.checkpoint(partition.getId(), "node-a", 50, now.plusMinutes(1), now));
+        assertEquals(0, generationPartitionRepository.complete(partition.getId(), "node-a", now));
+        assertEquals(0, generationPartitionRepository.findById(partition.getId()).orElseThrow().getNextCounter());
+    }
+
+    private SerialSetRequest createRequest(String name, int quantity) {
+        SerialSetRequest request = new SerialSetRequest();
+        request.setName(name);
+        request.setQuantity(quantity);
+        request.setConfiguration(true);
+        request.setSerialLength(10);
+        request.setNumber(true);
+        return request;
+    }
+}
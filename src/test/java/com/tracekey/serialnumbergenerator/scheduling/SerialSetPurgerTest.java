@@ -0,0 +1,90 @@
+package com.tracekey.serialnumbergenerator.scheduling;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SerialSetPurger} against the embedded H2 database.
+ */
+@SpringBootTest(properties = {"serialSet.purge.chunkSize=100", "serialSet.purge.asyncThreshold=500"})
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class SerialSetPurgerTest {
+
+    @Autowired
+    private SerialSetPurger serialSetPurger;
+
+    @Autowired
+    private SerialSetRepository serialSetRepository;
+
+    @Autowired
+    private SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM serial_number");
+        serialSetRepository.deleteAll();
+    }
+
+    /**
+     * Testing that a small serial set is deleted chunk by chunk before returning, leaving other sets untouched.
+     */
+    @Test
+    void shouldDeleteSmallSerialSetInChunks() {
+        SerialSet serialSet = createSerialSet("SmallSet", 450);
+        SerialSet otherSet = createSerialSet("OtherSet", 10);
+
+        assertTrue(serialSetPurger.delete(serialSet));
+
+        assertFalse(serialSetRepository.existsById(serialSet.getId()));
+        assertEquals(0, countSerialNumbers(serialSet));
+        assertEquals(10, countSerialNumbers(otherSet));
+    }
+
+    /**
+     * Testing that a large serial set is marked DELETING and purged in the background.
+     */
+    @Test
+    void shouldPurgeLargeSerialSetInBackground() throws InterruptedException {
+        SerialSet serialSet = createSerialSet("LargeSet", 600);
+
+        assertFalse(serialSetPurger.delete(serialSet));
+        assertEquals(GenerationStatus.DELETING, serialSet.getGenerationStatus());
+
+        for (int i = 0; i < 100 && serialSetRepository.existsById(serialSet.getId()); i++) {
+            Thread.sleep(50);
+        }
+        assertFalse(serialSetRepository.existsById(serialSet.getId()));
+        assertEquals(0, countSerialNumbers(serialSet));
+    }
+
+    private SerialSet createSerialSet(String name, int quantity) {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName(name).setQuantity(quantity));
+        serialNumberJdbcRepository.insertBatch(serialSet.getId(),
+                IntStream.range(0, quantity).mapToObj(i -> name + i).collect(Collectors.toList()));
+        return serialSet;
+    }
+
+    private int countSerialNumbers(SerialSet serialSet) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM serial_number WHERE serial_set_id = ?", Integer.class, serialSet.getId());
+    }
+}
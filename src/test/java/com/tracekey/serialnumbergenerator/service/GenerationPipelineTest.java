@@ -0,0 +1,68 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link GenerationPipeline}.
+ */
+class GenerationPipelineTest {
+
+    private final ExecutorService producerExecutor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        producerExecutor.shutdownNow();
+    }
+
+    /**
+     * Testing that every produced batch is written once, with the queue never exceeding its depth.
+     */
+    @Test
+    void shouldWriteEveryBatchThroughBoundedQueue() {
+        AtomicInteger written = new AtomicInteger();
+        GenerationPipeline pipeline = new GenerationPipeline("PipelineSet", 2, 3, batch -> written.addAndGet(batch.size()));
+        List<Consumer<Consumer<List<String>>>> producers = new ArrayList<>();
+        for (int producer = 0; producer < 4; producer++) {
+            producers.add(sink -> {
+                for (int batch = 0; batch < 25; batch++) {
+                    sink.accept(List.of("A", "B", "C", "D"));
+                }
+            });
+        }
+
+        GenerationPipeline.Stats stats = pipeline.run(producerExecutor, producers);
+
+        assertEquals(400, written.get());
+        assertEquals(400, stats.getGeneratedSerials());
+        assertEquals(400, stats.getWrittenSerials());
+    }
+
+    /**
+     * Testing that a writer failure stops the producers and is rethrown.
+     */
+    @Test
+    void shouldRethrowWriterFailure() {
+        GenerationPipeline pipeline = new GenerationPipeline("FailingSet", 1, 1, batch -> {
+            throw new IllegalArgumentException("write failed");
+        });
+        List<Consumer<Consumer<List<String>>>> producers = List.of(sink -> {
+            while (true) {
+                sink.accept(List.of("A"));
+            }
+        });
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pipeline.run(producerExecutor, producers));
+        assertEquals("write failed", exception.getMessage());
+    }
+}
@@ -0,0 +1,100 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link SerialClaimServiceImpl} against the embedded H2 database.
+ */
+@SpringBootTest(properties = {"serialSet.claim.maxCount=20", "serialSet.claim.prefetchSize=50"})
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class SerialClaimServiceImplTest {
+
+    @Autowired
+    private SerialClaimServiceImpl serialClaimService;
+
+    @Autowired
+    private SerialSetRepository serialSetRepository;
+
+    @Autowired
+    private SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM serial_number");
+        serialSetRepository.deleteAll();
+    }
+
+    /**
+     * Testing that concurrent claims through two nodes hand out every serial number exactly once.
+     */
+    @Test
+    void shouldNeverIssueSerialNumberTwiceUnderContention() throws Exception {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("ClaimSet").setQuantity(1000));
+        serialNumberJdbcRepository.insertBatch(serialSet.getId(),
+                IntStream.range(0, 1000).mapToObj(i -> "SN" + i).collect(Collectors.toList()));
+        SerialClaimServiceImpl otherNode = new SerialClaimServiceImpl(serialSetRepository, serialNumberJdbcRepository);
+        ReflectionTestUtils.setField(otherNode, "maxClaimCount", 20);
+        ReflectionTestUtils.setField(otherNode, "prefetchSize", 50);
+
+        List<String> claimed = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < 8; worker++) {
+            ISerialClaimService node = worker % 2 == 0 ? serialClaimService : otherNode;
+            futures.add(workers.submit(() -> {
+                List<String> serials;
+                do {
+                    serials = node.claim("ClaimSet", 7).getSerialNumbers();
+                    claimed.addAll(serials);
+                } while (!serials.isEmpty());
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+
+        assertEquals(1000, claimed.size());
+        assertEquals(1000, new HashSet<>(claimed).size());
+        assertEquals(1000, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM serial_number WHERE issued_date IS NOT NULL", Integer.class));
+    }
+
+    /**
+     * Testing that claim counts beyond the configured maximum are rejected.
+     */
+    @Test
+    void shouldThrowExceptionIfClaimCountOutOfRange() {
+        assertThrows(SerialSetException.class, () -> serialClaimService.claim("AnySet", 21));
+        assertThrows(SerialSetException.class, () -> serialClaimService.claim("AnySet", 0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberCopyRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Test class for {@link SerialNumberWriterImpl} against the embedded H2 database.
+ */
+@SpringBootTest(properties = "serialSet.copy.threshold=1")
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class SerialNumberWriterImplTest {
+
+    @Autowired
+    private ISerialNumberWriter serialNumberWriter;
+
+    @Autowired
+    private SerialNumberCopyRepository serialNumberCopyRepository;
+
+    @Autowired
+    private SerialSetRepository serialSetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM serial_number");
+        serialSetRepository.deleteAll();
+    }
+
+    /**
+     * Testing that sets above the COPY threshold fall back to batched inserts on a non-PostgreSQL database.
+     */
+    @Test
+    void shouldFallBackToBatchedInsertsWithoutPostgres() {
+        SerialSet serialSet = serialSetRepository.save(new SerialSet().setName("CopySet").setQuantity(3));
+
+        serialNumberWriter.write(serialSet, List.of("A1", "B2", "C3"));
+
+        assertFalse(serialNumberCopyRepository.isAvailable());
+        assertEquals(0, serialNumberWriter.getMinimumBatchSize(serialSet));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM serial_number WHERE serial_set_id = ?", Integer.class, serialSet.getId()));
+    }
+}
@@ -0,0 +1,194 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialNumber;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.exception.CustomCsvExportException;
+import com.tracekey.serialnumbergenerator.export.BinarySerialNumberExporter;
+import com.tracekey.serialnumbergenerator.export.CsvSerialNumberExporter;
+import com.tracekey.serialnumbergenerator.export.ExportCache;
+import com.tracekey.serialnumbergenerator.export.ExportFormat;
+import com.tracekey.serialnumbergenerator.export.GzipCsvSerialNumberExporter;
+import com.tracekey.serialnumbergenerator.metrics.SerialSetMetrics;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link SerialSetExportServiceImpl}.
+ */
+@Import(TestDatabaseConfig.class)
+@ActiveProfiles("test")
+class SerialSetExportServiceImplTest {
+
+    private static final String SERIAL_SET_NAME = "TestSet";
+
+    private static final String EXPECTED_CSV = "Serial Number\nSN1\nSN2\nSN3\nSN4\nSN5\n";
+
+    @Mock
+    private SerialSetRepository serialSetRepository;
+
+    @Mock
+    private SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    @TempDir
+    Path exportDirectory;
+
+    private SerialSetExportServiceImpl serialSetExportService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        CsvSerialNumberExporter csvExporter = new CsvSerialNumberExporter(serialNumberJdbcRepository);
+        ExportCache exportCache = new ExportCache();
+        ReflectionTestUtils.setField(exportCache, "exportDirectory", exportDirectory.toString());
+        ReflectionTestUtils.setField(exportCache, "maxBytes", 1024L);
+        serialSetExportService = new SerialSetExportServiceImpl(serialSetRepository, exportCache, List.of(csvExporter,
+                new GzipCsvSerialNumberExporter(csvExporter), new BinarySerialNumberExporter(serialNumberJdbcRepository)),
+                new SerialSetMetrics(meterRegistry));
+    }
+
+    @Test
+    void shouldExportSerialNumbersToCSV() throws IOException {
+        mockPersistedSerialNumbers(createTestSerialSet());
+
+        byte[] export = export(ExportFormat.CSV);
+
+        assertEquals(EXPECTED_CSV, new String(export, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldExportSerialNumbersToGzipCSV() throws IOException {
+        mockPersistedSerialNumbers(createTestSerialSet());
+
+        byte[] export = export(ExportFormat.CSV_GZIP);
+
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(export))) {
+            assertEquals(EXPECTED_CSV, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void shouldServeExistingExportWithoutReadingSerialNumbersAgain() throws IOException {
+        mockPersistedSerialNumbers(createTestSerialSet());
+
+        export(ExportFormat.CSV);
+        byte[] export = export(ExportFormat.CSV);
+
+        verify(serialNumberJdbcRepository, times(1)).forEachValue(anyLong(), any());
+        assertEquals(EXPECTED_CSV, new String(export, StandardCharsets.UTF_8));
+        assertEquals(1, meterRegistry.get("serialset.export.duration").tag("format", "CSV").timer().count());
+        assertEquals(EXPECTED_CSV.length(), meterRegistry.get("serialset.export.bytes").counter().count());
+        assertEquals(5, meterRegistry.get("serialset.export.rows").counter().count());
+    }
+
+    @Test
+    void shouldThrowExceptionIfSerialSetNotFoundForExport() {
+        when(serialSetRepository.findByName(SERIAL_SET_NAME)).thenReturn(Optional.empty());
+        assertThrows(CustomCsvExportException.class,
+                () -> serialSetExportService.exportSerialNumbers(SERIAL_SET_NAME, ExportFormat.CSV),
+                "Serial set not found for export");
+    }
+
+    @Test
+    void shouldThrowExceptionIfNoSerialNumbersForExport() {
+        when(serialSetRepository.findByName(SERIAL_SET_NAME)).thenReturn(Optional.of(createTestSerialSetWithoutSerialNumbers()));
+        assertThrows(CustomCsvExportException.class,
+                () -> serialSetExportService.exportSerialNumbers(SERIAL_SET_NAME, ExportFormat.CSV),
+                "No serial numbers created for this serial set");
+    }
+
+    @Test
+    void shouldThrowExceptionIfIncompleteGenerationForExport() {
+        SerialSet serialSet = createTestSerialSet();
+        List<SerialNumber> serialNumbers = createTestSerialNumbers(serialSet);
+        serialSet.setSerialNumbers(new ArrayList<>(serialNumbers.subList(0, serialNumbers.size() - 1)))
+                .setGenerationStatus(GenerationStatus.RUNNING)
+                .setGeneratedCount(serialNumbers.size() - 1);
+        when(serialSetRepository.findByName(SERIAL_SET_NAME)).thenReturn(Optional.of(serialSet));
+
+        assertThrows(CustomCsvExportException.class,
+                () -> serialSetExportService.exportSerialNumbers(SERIAL_SET_NAME, ExportFormat.CSV),
+                "Serial set numbers generation is incomplete");
+    }
+
+    private byte[] export(ExportFormat format) throws IOException {
+        Optional<Resource> cachedExport = serialSetExportService.findCachedExport(SERIAL_SET_NAME, format);
+        if (cachedExport.isPresent()) {
+            try (InputStream inputStream = cachedExport.get().getInputStream()) {
+                return inputStream.readAllBytes();
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serialSetExportService.exportSerialNumbers(SERIAL_SET_NAME, format).writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private void mockPersistedSerialNumbers(SerialSet serialSet) {
+        when(serialSetRepository.findByName(SERIAL_SET_NAME)).thenReturn(Optional.of(serialSet));
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            serialSet.getSerialNumbers().forEach(serialNumber -> action.accept(serialNumber.getValue()));
+            return null;
+        }).when(serialNumberJdbcRepository).forEachValue(anyLong(), any());
+    }
+
+    private SerialSet createTestSerialSetWithoutSerialNumbers() {
+        return saveSerialSet();
+    }
+
+    private SerialSet createTestSerialSet() {
+        SerialSet serialSet = saveSerialSet();
+        serialSet.setSerialNumbers(createTestSerialNumbers(serialSet))
+                .setGenerationStatus(GenerationStatus.COMPLETED)
+                .setGeneratedCount(serialSet.getQuantity());
+        return serialSet;
+    }
+
+    private List<SerialNumber> createTestSerialNumbers(SerialSet serialSet) {
+        List<SerialNumber> serialNumbers = new ArrayList<>();
+        for (int i = 1; i <= serialSet.getQuantity(); i++) {
+            serialNumbers.add(new SerialNumber("SN" + i, serialSet));
+        }
+        return serialNumbers;
+    }
+
+    private SerialSet saveSerialSet() {
+        return new SerialSet().setName(SERIAL_SET_NAME).setQuantity(5);
+    }
+
+}
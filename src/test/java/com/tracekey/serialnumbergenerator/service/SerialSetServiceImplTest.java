@@ -1,22 +1,61 @@
 package com.tracekey.serialnumbergenerator.service;
 
 import com.tracekey.serialnumbergenerator.conf.TestDatabaseConfig;
+import com.tracekey.serialnumbergenerator.dto.SerialSetRequest;
+import com.tracekey.serialnumbergenerator.dto.SerialSetResponse;
+import com.tracekey.serialnumbergenerator.entity.GenerationMode;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
 import com.tracekey.serialnumbergenerator.entity.SerialSet;
 import com.tracekey.serialnumbergenerator.exception.SerialSetException;
+import com.tracekey.serialnumbergenerator.generator.Alphabet;
+import com.tracekey.serialnumbergenerator.generator.SerialPermutation;
+import com.tracekey.serialnumbergenerator.generator.SerialReservoir;
+import com.tracekey.serialnumbergenerator.mapper.SerialSetMapper;
+import com.tracekey.serialnumbergenerator.mapper.SerialSetMapperImpl;
+import com.tracekey.serialnumbergenerator.metrics.SerialSetMetrics;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberRepository;
 import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import com.tracekey.serialnumbergenerator.scheduling.GenerationNode;
+import com.tracekey.serialnumbergenerator.scheduling.SerialSetPurger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -32,6 +71,38 @@ class SerialSetServiceImplTest {
     @Mock
     private SerialSetRepository serialSetRepository;
 
+    @Mock
+    private SerialNumberRepository serialNumberRepository;
+
+    @Mock
+    private SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    @Mock
+    private ISerialNumberWriter serialNumberWriter;
+
+    @Mock
+    private ISerialVerificationService serialVerificationService;
+
+    @Mock
+    private IGlobalUniquenessService globalUniquenessService;
+
+    @Mock
+    private SerialSetPurger serialSetPurger;
+
+    @Mock
+    private GenerationNode generationNode;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private SerialSetMapper serialSetMapper = new SerialSetMapperImpl();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SerialSetMetrics serialSetMetrics = new SerialSetMetrics(meterRegistry);
+
     @InjectMocks
     private SerialSetServiceImpl serialSetService;
 
@@ -70,6 +141,9 @@ class SerialSetServiceImplTest {
         ReflectionTestUtils.setField(serialSetService, "maxRandomLength", MAX_RANDOM_LENGTH);
         ReflectionTestUtils.setField(serialSetService, "maxSerialQuantity", MAX_SERIAL_QUANTITY);
         ReflectionTestUtils.setField(serialSetService, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(serialSetService, "maxInsertRetries", 3);
+        ReflectionTestUtils.setField(serialSetService, "inMemoryDedupLimit", MAX_SERIAL_QUANTITY);
+        lenient().when(globalUniquenessService.claim(any())).thenReturn(true);
     }
 
     /**
@@ -136,6 +210,348 @@ class SerialSetServiceImplTest {
         assertEquals("ABCD4", result);
     }
 
+    /**
+     * Testing the generation of a batch of serial numbers from the configured characters.
+     */
+    @Test
+    void shouldGenerateSerialBatch() {
+        SerialSet serialSet = createConfiguredSerialSet(true, 12)
+                .setNumber(true)
+                .setUpperCase(true)
+                .setExclusions("0O1I");
+        Alphabet alphabet = serialSetService.getAlphabet(serialSet);
+
+        List<String> serials = serialSetService.generateSerialBatch(serialSet, alphabet, 100);
+
+        assertEquals(100, serials.size());
+        serials.forEach(serial -> {
+            assertEquals(12, serial.length());
+            assertTrue(alphabet.matches(serial));
+            assertTrue(serial.chars().noneMatch(c -> "0O1I".indexOf(c) >= 0));
+        });
+    }
+
+    /**
+     * Testing that parallel generation saves the requested quantity of unique serial numbers.
+     */
+    @Test
+    void shouldGenerateUniqueSerialNumbersInParallel() {
+        ReflectionTestUtils.setField(serialSetService, "generationParallelism", 4);
+        SerialSet serialSet = createSerialSet(1000)
+                .setConfiguration(true)
+                .setSerialLength(10)
+                .setNumber(true);
+        Set<String> savedSerials = ConcurrentHashMap.newKeySet();
+        AtomicInteger savedCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<String> serialNumbers = invocation.getArgument(1);
+            savedSerials.addAll(serialNumbers);
+            savedCount.addAndGet(serialNumbers.size());
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(1000, savedCount.get());
+        assertEquals(1000, savedSerials.size());
+    }
+
+    /**
+     * Testing that permutation mode fills the whole keyspace with unique serial numbers.
+     */
+    @Test
+    void shouldGeneratePermutedSerialNumbersAcrossWholeKeyspace() {
+        SerialSet serialSet = createSerialSet(1000)
+                .setConfiguration(true)
+                .setSerialLength(3)
+                .setNumber(true)
+                .setGenerationMode(GenerationMode.PERMUTATION)
+                .setPermutationKey(11L);
+        Set<String> savedSerials = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<String> serialNumbers = invocation.getArgument(1);
+            savedSerials.addAll(serialNumbers);
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(1000, savedSerials.size());
+    }
+
+    /**
+     * Testing that generation counts every persisted batch and ends in the completed status.
+     */
+    @Test
+    void shouldCountBatchesAndCompleteGeneration() {
+        SerialSet serialSet = createSerialSet(120)
+                .setConfiguration(true)
+                .setSerialLength(10)
+                .setNumber(true);
+        AtomicInteger countedSerials = new AtomicInteger();
+        when(serialSetRepository.incrementGeneratedCount(anyLong(), anyInt()))
+                .thenAnswer(invocation -> countedSerials.addAndGet(invocation.getArgument(1)));
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(120, countedSerials.get());
+        assertEquals(120, meterRegistry.get("serialset.serials.generated").tag("length", "10").counter().count());
+        assertEquals(3, meterRegistry.get("serialset.batch.write").timer().count());
+        assertEquals(3, meterRegistry.get("serialset.batch.generation").timer().count());
+        assertEquals(GenerationStatus.COMPLETED, serialSet.getGenerationStatus());
+        verify(serialSetRepository).updateGenerationStatus(serialSet.getId(), GenerationStatus.RUNNING);
+        verify(serialSetRepository).updateGenerationStatus(serialSet.getId(), GenerationStatus.COMPLETED);
+    }
+
+    /**
+     * Testing that a failing write marks the serial set as failed.
+     */
+    @Test
+    void shouldMarkGenerationFailedIfWriteFails() {
+        SerialSet serialSet = createSerialSet(120)
+                .setConfiguration(true)
+                .setSerialLength(10)
+                .setNumber(true);
+        doThrow(new IllegalStateException("write failed")).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        assertThrows(RuntimeException.class, () -> serialSetService.generateSerialNumbers(serialSet));
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(GenerationStatus.FAILED, serialSet.getGenerationStatus());
+        verify(serialSetRepository).updateGenerationStatus(serialSet.getId(), GenerationStatus.FAILED);
+    }
+
+    /**
+     * Testing that a batch rejected by the unique index is retried with its conflicting serial replaced.
+     */
+    @Test
+    void shouldRetryBatchWithConflictingSerialReplaced() {
+        SerialSet serialSet = createSerialSet(50)
+                .setConfiguration(true)
+                .setSerialLength(10)
+                .setNumber(true);
+        ReflectionTestUtils.setField(serialSetService, "generationParallelism", 1);
+        when(globalUniquenessService.isEnabled()).thenReturn(true);
+        List<List<String>> writes = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<String> batch = invocation.getArgument(1);
+            writes.add(List.copyOf(batch));
+            if (writes.size() == 1) {
+                throw new DuplicateKeyException("duplicate value");
+            }
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+        when(serialNumberJdbcRepository.findExistingValues(anyList()))
+                .thenAnswer(invocation -> Set.of(((List<String>) invocation.getArgument(0)).get(0)));
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(2, writes.size());
+        assertEquals(50, writes.get(1).size());
+        assertFalse(writes.get(1).contains(writes.get(0).get(0)));
+        assertEquals(writes.get(0).subList(1, 50), writes.get(1).subList(1, 50));
+        assertEquals(GenerationStatus.COMPLETED, serialSet.getGenerationStatus());
+        verify(serialSetRepository).incrementGeneratedCount(serialSet.getId(), 50);
+        assertEquals(1, meterRegistry.get("serialset.batch.retries").counter().count());
+    }
+
+    /**
+     * Testing that allocations are served from the reservoir once it is refilled, with distinct serial numbers.
+     */
+    @Test
+    void shouldAllocateSerialSetsFromRefilledReservoir() throws InterruptedException {
+        ReflectionTestUtils.setField(serialSetService, "reservoirCapacity", 100);
+        ReflectionTestUtils.setField(serialSetService, "reservoirLowWaterMark", 50);
+        ReflectionTestUtils.setField(serialSetService, "maxReservoirProfiles", 4);
+        List<String> written = new ArrayList<>();
+        doAnswer(invocation -> written.addAll(invocation.getArgument(1)))
+                .when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        SerialSetResponse first = serialSetService.allocateSerialSet(createAllocationRequest("First", 30));
+        Map<String, SerialReservoir> reservoirs =
+                (Map<String, SerialReservoir>) ReflectionTestUtils.getField(serialSetService, "reservoirs");
+        SerialReservoir reservoir = reservoirs.values().iterator().next();
+        for (int i = 0; i < 100 && reservoir.size() < 100; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(100, reservoir.size());
+
+        SerialSetResponse second = serialSetService.allocateSerialSet(createAllocationRequest("Second", 40));
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(GenerationStatus.COMPLETED, first.getGenerationStatus());
+        assertEquals(40, second.getGeneratedCount());
+        assertEquals(60, reservoir.size());
+        assertEquals(70, written.size());
+        assertEquals(40, written.subList(30, 70).stream().distinct().count());
+        assertTrue(written.stream().allMatch(serial -> serial.matches("[0-9]{10}")));
+    }
+
+    /**
+     * Testing that an allocation larger than a reservoir is rejected.
+     */
+    @Test
+    void shouldThrowExceptionIfAllocationExceedsReservoirCapacity() {
+        ReflectionTestUtils.setField(serialSetService, "reservoirCapacity", 100);
+
+        assertThrows(SerialSetException.class,
+                () -> serialSetService.allocateSerialSet(createAllocationRequest("TooLarge", 101)));
+    }
+
+    /**
+     * Testing that a resumed random-mode set only generates the missing serial numbers, none of them already persisted.
+     */
+    @Test
+    void shouldResumeRandomGenerationWithoutDuplicatingPersistedSerials() {
+        SerialSet serialSet = createSerialSet(500)
+                .setConfiguration(true)
+                .setSerialLength(3)
+                .setNumber(true)
+                .setGeneratedCount(400);
+        List<String> persisted = IntStream.range(0, 400).mapToObj(i -> String.format("%03d", i)).collect(Collectors.toList());
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            persisted.forEach(action);
+            return null;
+        }).when(serialNumberJdbcRepository).forEachValue(anyLong(), any());
+        Set<String> savedSerials = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<String> serialNumbers = invocation.getArgument(1);
+            savedSerials.addAll(serialNumbers);
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(100, savedSerials.size());
+        savedSerials.forEach(serial -> assertFalse(persisted.contains(serial)));
+    }
+
+    /**
+     * Testing that a random-mode set above the in-memory limit is deduplicated on disk, skipping persisted serials.
+     */
+    @Test
+    void shouldDedupLargeRandomSetOnDiskWithoutDuplicatingPersistedSerials(@TempDir Path dedupDirectory) {
+        ReflectionTestUtils.setField(serialSetService, "inMemoryDedupLimit", 100);
+        ReflectionTestUtils.setField(serialSetService, "dedupRunLength", 64);
+        ReflectionTestUtils.setField(serialSetService, "dedupDirectory", dedupDirectory.toString());
+        SerialSet serialSet = createSerialSet(900)
+                .setConfiguration(true)
+                .setSerialLength(3)
+                .setNumber(true)
+                .setGeneratedCount(400);
+        List<String> persisted = IntStream.range(0, 400).mapToObj(i -> String.format("%03d", i * 2)).collect(Collectors.toList());
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            persisted.forEach(action);
+            return null;
+        }).when(serialNumberJdbcRepository).forEachValue(anyLong(), any());
+        Set<String> savedSerials = ConcurrentHashMap.newKeySet();
+        AtomicInteger savedCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<String> serialNumbers = invocation.getArgument(1);
+            savedSerials.addAll(serialNumbers);
+            savedCount.addAndGet(serialNumbers.size());
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(500, savedCount.get());
+        assertEquals(500, savedSerials.size());
+        savedSerials.forEach(serial -> assertFalse(persisted.contains(serial)));
+        assertEquals(GenerationStatus.COMPLETED, serialSet.getGenerationStatus());
+    }
+
+    /**
+     * Testing that a serial set whose serial numbers are still being generated cannot be deleted.
+     */
+    @Test
+    void shouldRejectDeletingSerialSetBeingGenerated() {
+        when(serialSetRepository.findByName(NAME)).thenReturn(Optional.of(createSerialSet(100)
+                .setGenerationStatus(GenerationStatus.RUNNING)));
+
+        assertThrows(SerialSetException.class, () -> serialSetService.deleteSerialSetByName(NAME));
+        verify(serialSetPurger, never()).delete(any());
+    }
+
+    /**
+     * Testing that serials packed into two words are deduplicated on disk as well.
+     */
+    @Test
+    void shouldDedupTwoWordSerialsOnDisk(@TempDir Path dedupDirectory) {
+        ReflectionTestUtils.setField(serialSetService, "inMemoryDedupLimit", 100);
+        ReflectionTestUtils.setField(serialSetService, "dedupRunLength", 64);
+        ReflectionTestUtils.setField(serialSetService, "dedupDirectory", dedupDirectory.toString());
+        SerialSet serialSet = createSerialSet(500)
+                .setConfiguration(true)
+                .setSerialLength(20)
+                .setNumber(true);
+        Set<String> savedSerials = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<String> serialNumbers = invocation.getArgument(1);
+            savedSerials.addAll(serialNumbers);
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(500, savedSerials.size());
+        savedSerials.forEach(serial -> assertTrue(serial.matches("[0-9]{20}")));
+        assertEquals(GenerationStatus.COMPLETED, serialSet.getGenerationStatus());
+    }
+
+    /**
+     * Testing that a resumed permutation-mode set continues on counters no earlier run reserved.
+     */
+    @Test
+    void shouldResumePermutationGenerationOnUnusedCounters() {
+        SerialSet serialSet = createSerialSet(1000)
+                .setConfiguration(true)
+                .setSerialLength(4)
+                .setNumber(true)
+                .setGenerationMode(GenerationMode.PERMUTATION)
+                .setPermutationKey(5L)
+                .setGeneratedCount(400)
+                .setPermutationOffset(1000);
+        SerialPermutation permutation = new SerialPermutation(serialSetService.getAlphabet(serialSet), 4, 5L);
+        Set<String> reserved = LongStream.range(0, 1000).mapToObj(permutation::serialAt).collect(Collectors.toSet());
+        Set<String> savedSerials = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<String> serialNumbers = invocation.getArgument(1);
+            savedSerials.addAll(serialNumbers);
+            return null;
+        }).when(serialNumberWriter).write(any(SerialSet.class), anyList());
+
+        serialSetService.generateSerialNumbers(serialSet);
+        serialSetService.shutdownGenerationPool();
+
+        assertEquals(600, savedSerials.size());
+        savedSerials.forEach(serial -> assertFalse(reserved.contains(serial)));
+        verify(serialSetRepository).updatePermutationOffset(serialSet.getId(), 1600L);
+    }
+
+    /**
+     * Testing that a quantity larger than the keyspace is rejected.
+     */
+    @Test
+    void shouldThrowExceptionIfQuantityExceedsKeyspace() {
+        ReflectionTestUtils.setField(serialSetService, "minSerialLength", 1);
+        SerialSet serialSet = createSerialSet(101)
+                .setConfiguration(true)
+                .setSerialLength(2)
+                .setNumber(true);
+
+        assertThrows(SerialSetException.class, () -> serialSetService.validateSerialSetConfiguration(serialSet));
+    }
+
     /**
      * Testing successful validation of SerialSet configuration within the given conditions.
      */
@@ -185,6 +601,19 @@ class SerialSetServiceImplTest {
                 .setQuantity(quantity);
     }
 
+    /**
+     * Helper method to create a request for a numeric serial set of length 10.
+     */
+    private SerialSetRequest createAllocationRequest(String name, int quantity) {
+        SerialSetRequest request = new SerialSetRequest();
+        request.setName(name);
+        request.setQuantity(quantity);
+        request.setConfiguration(true);
+        request.setSerialLength(10);
+        request.setNumber(true);
+        return request;
+    }
+
     /**
      * Helper method to create a configured SerialSet
      */
@@ -0,0 +1,211 @@
+package com.tracekey.serialnumbergenerator.service;
+
+import com.tracekey.serialnumbergenerator.dto.SerialVerificationResponse;
+import com.tracekey.serialnumbergenerator.entity.GenerationStatus;
+import com.tracekey.serialnumbergenerator.entity.SerialSet;
+import com.tracekey.serialnumbergenerator.repository.SerialNumberJdbcRepository;
+import com.tracekey.serialnumbergenerator.repository.SerialSetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link SerialVerificationServiceImpl}.
+ */
+class SerialVerificationServiceImplTest {
+
+    @Mock
+    private SerialSetRepository serialSetRepository;
+
+    @Mock
+    private SerialNumberJdbcRepository serialNumberJdbcRepository;
+
+    @InjectMocks
+    private SerialVerificationServiceImpl serialVerificationService;
+
+    private final SerialSet serialSet = serialSet(1L, "TestSet", GenerationStatus.COMPLETED, 2);
+
+    private final SerialSet otherSet = serialSet(2L, "OtherSet", GenerationStatus.COMPLETED, 1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(serialVerificationService, "capacity", 1000L);
+        ReflectionTestUtils.setField(serialVerificationService, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(serialVerificationService, "shards", 2);
+        ReflectionTestUtils.setField(serialVerificationService, "cacheSize", 10);
+        ReflectionTestUtils.setField(serialVerificationService, "cacheTtlMillis", 60_000L);
+        serialVerificationService.createFilter();
+        when(serialSetRepository.findByGenerationStatusIn(any())).thenReturn(List.of(serialSet, otherSet));
+        stubValues(serialSet, "SN1", "SN2");
+        stubValues(otherSet, "OT1");
+        serialVerificationService.warmUp();
+    }
+
+    private static SerialSet serialSet(final long id, final String name, final GenerationStatus status,
+                                       final int generatedCount) {
+        SerialSet serialSet = new SerialSet().setName(name).setQuantity(1000).setGenerationStatus(status)
+                .setGeneratedCount(generatedCount);
+        ReflectionTestUtils.setField(serialSet, "id", id);
+        return serialSet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubValues(final SerialSet set, final String... values) {
+        doAnswer(invocation -> {
+            List.of(values).forEach(invocation.<Consumer<String>>getArgument(1));
+            return null;
+        }).when(serialNumberJdbcRepository).forEachValue(eq(set.getId()), any(Consumer.class));
+    }
+
+    /**
+     * Testing that a value the Bloom filter does not contain is rejected without a database lookup.
+     */
+    @Test
+    void shouldRejectUnknownSerialWithoutDatabase() {
+        SerialVerificationResponse response = serialVerificationService.verify("UNKNOWN");
+
+        assertFalse(response.isValid());
+        verify(serialNumberJdbcRepository, never()).findSerialSetName(anyString());
+    }
+
+    /**
+     * Testing that a valid serial is confirmed by the database once and then served from the cache.
+     */
+    @Test
+    void shouldConfirmSerialInDatabaseOnceAndCacheIt() {
+        when(serialNumberJdbcRepository.findSerialSetName("SN1")).thenReturn(Optional.of("TestSet"));
+
+        SerialVerificationResponse first = serialVerificationService.verify("SN1");
+        SerialVerificationResponse second = serialVerificationService.verify("SN1");
+
+        assertTrue(first.isValid());
+        assertEquals("TestSet", second.getSerialSetName());
+        verify(serialNumberJdbcRepository, times(1)).findSerialSetName("SN1");
+    }
+
+    /**
+     * Testing that serial sets the filter does not cover yet, e.g. running on another node, are checked in the database.
+     */
+    @Test
+    void shouldConfirmNegativesInDatabaseWhileSetIsRunning() {
+        SerialSet runningSet = serialSet(3L, "RunningSet", GenerationStatus.RUNNING, 0);
+        when(serialSetRepository.findByGenerationStatusIn(any())).thenReturn(List.of(serialSet, otherSet, runningSet));
+        when(serialNumberJdbcRepository.findSerialSetName("RS1")).thenReturn(Optional.of("RunningSet"));
+        serialVerificationService.refresh();
+
+        assertEquals("RunningSet", serialVerificationService.verify("RS1").getSerialSetName());
+
+        runningSet.setGenerationStatus(GenerationStatus.COMPLETED).setGeneratedCount(1);
+        stubValues(runningSet, "RS1");
+        serialVerificationService.refresh();
+
+        assertFalse(serialVerificationService.verify("UNKNOWN").isValid());
+        verify(serialNumberJdbcRepository, never()).findSerialSetName("UNKNOWN");
+    }
+
+    /**
+     * Testing that a completed serial set is loaded once, not on every refresh.
+     */
+    @Test
+    void shouldNotReloadUnchangedSerialSet() {
+        serialVerificationService.refresh();
+        serialVerificationService.refresh();
+
+        verify(serialNumberJdbcRepository, times(1)).forEachValue(eq(serialSet.getId()), any());
+    }
+
+    /**
+     * Testing that evicting a serial set drops its filter and cached hits, but keeps those of other serial sets.
+     */
+    @Test
+    void shouldForgetEvictedSerialSet() {
+        when(serialNumberJdbcRepository.findSerialSetName("SN1")).thenReturn(Optional.of("TestSet"));
+        when(serialNumberJdbcRepository.findSerialSetName("OT1")).thenReturn(Optional.of("OtherSet"));
+        serialVerificationService.verify("SN1");
+        serialVerificationService.verify("OT1");
+        when(serialNumberJdbcRepository.findSerialSetName("SN1")).thenReturn(Optional.empty());
+
+        serialVerificationService.evict(serialSet);
+
+        assertFalse(serialVerificationService.verify("SN1").isValid());
+        assertTrue(serialVerificationService.verify("OT1").isValid());
+        verify(serialNumberJdbcRepository, times(1)).findSerialSetName("OT1");
+    }
+
+    /**
+     * Testing that the cached hits of a serial set deleted on another node are dropped by the next refresh.
+     */
+    @Test
+    void shouldDropCachedHitsOfSerialSetDeletedElsewhere() {
+        when(serialNumberJdbcRepository.findSerialSetName("SN1")).thenReturn(Optional.of("TestSet"));
+        serialVerificationService.verify("SN1");
+        when(serialSetRepository.findByGenerationStatusIn(any())).thenReturn(List.of(otherSet));
+        when(serialNumberJdbcRepository.findSerialSetName("SN1")).thenReturn(Optional.empty());
+
+        serialVerificationService.refresh();
+
+        assertFalse(serialVerificationService.verify("SN1").isValid());
+    }
+
+    /**
+     * Testing that a serial set generated entirely on this node keeps negatives off the database, unlike a
+     * serial set generated elsewhere.
+     */
+    @Test
+    void shouldRejectWithoutDatabaseWhileGeneratingLocally() {
+        SerialSet localSet = serialSet(3L, "LocalSet", GenerationStatus.RUNNING, 0);
+        SerialSet remoteSet = serialSet(4L, "RemoteSet", GenerationStatus.RUNNING, 0);
+        when(serialSetRepository.findByGenerationStatusIn(any())).thenReturn(List.of(serialSet, otherSet, localSet));
+        serialVerificationService.register(localSet);
+        serialVerificationService.record(localSet, List.of("LS1"));
+        serialVerificationService.refresh();
+        when(serialNumberJdbcRepository.findSerialSetName("LS1")).thenReturn(Optional.of("LocalSet"));
+
+        assertFalse(serialVerificationService.verify("UNKNOWN").isValid());
+        assertTrue(serialVerificationService.verify("LS1").isValid());
+        verify(serialNumberJdbcRepository, never()).findSerialSetName("UNKNOWN");
+
+        when(serialSetRepository.findByGenerationStatusIn(any()))
+                .thenReturn(List.of(serialSet, otherSet, localSet, remoteSet));
+        serialVerificationService.refresh();
+
+        assertFalse(serialVerificationService.verify("UNKNOWN").isValid());
+        verify(serialNumberJdbcRepository, times(1)).findSerialSetName("UNKNOWN");
+    }
+
+    /**
+     * Testing that the hit cache stays bounded by its size.
+     */
+    @Test
+    void shouldBoundCachedHits() {
+        when(serialNumberJdbcRepository.findSerialSetName(anyString())).thenReturn(Optional.of("TestSet"));
+        SerialSet remoteSet = serialSet(4L, "RemoteSet", GenerationStatus.RUNNING, 0);
+        when(serialSetRepository.findByGenerationStatusIn(any())).thenReturn(List.of(serialSet, otherSet, remoteSet));
+        serialVerificationService.refresh();
+
+        for (int i = 0; i < 100; i++) {
+            serialVerificationService.verify("SN" + i);
+        }
+
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(serialVerificationService, "cache")).size() <= 10);
+    }
+}